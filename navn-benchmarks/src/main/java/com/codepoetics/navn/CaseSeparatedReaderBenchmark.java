@@ -0,0 +1,34 @@
+package com.codepoetics.navn;
+
+import com.codepoetics.navn.benchmarks.IdentifierSet;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CaseSeparatedReaderBenchmark {
+
+    @Param
+    public IdentifierSet identifierSet;
+
+    private String[] identifiers;
+
+    @Setup
+    public void setUp() {
+        identifiers = identifierSet.identifiers(SourceFormat.CASE_SEPARATED);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IdentifierSet.SIZE)
+    public void read(Blackhole blackhole) {
+        for (String identifier : identifiers) {
+            blackhole.consume(CaseSeparatedReader.read(identifier));
+        }
+    }
+}
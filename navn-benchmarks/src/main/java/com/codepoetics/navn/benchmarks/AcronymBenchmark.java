@@ -0,0 +1,72 @@
+package com.codepoetics.navn.benchmarks;
+
+import com.codepoetics.navn.AcronymDictionary;
+import com.codepoetics.navn.Name;
+import com.codepoetics.navn.NameConverter;
+import com.codepoetics.navn.SourceFormat;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AcronymBenchmark {
+
+    @Param
+    public IdentifierSet identifierSet;
+
+    private String[] acronyms;
+    private AcronymDictionary dictionary;
+    private String[] caseSeparated;
+    private Name[] names;
+    private NameConverter converter;
+
+    @Setup
+    public void setUp() {
+        acronyms = IdentifierSet.acronyms();
+        dictionary = AcronymDictionary.of(acronyms);
+        caseSeparated = identifierSet.identifiers(SourceFormat.CASE_SEPARATED);
+        names = Stream.of(identifierSet.identifiers(SourceFormat.UNDERSCORE_SEPARATED))
+                .map(Name::of)
+                .toArray(Name[]::new);
+        converter = NameConverter.toUnderscored().splittingOn(dictionary);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IdentifierSet.SIZE)
+    public void splitWithDictionary(Blackhole blackhole) {
+        for (String identifier : caseSeparated) {
+            blackhole.consume(Name.of(identifier, dictionary).toArray());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IdentifierSet.SIZE)
+    public void convertSplittingOnDictionary(Blackhole blackhole) {
+        for (String identifier : caseSeparated) {
+            blackhole.consume(converter.convert(identifier));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IdentifierSet.SIZE)
+    public void uppercasingWithDictionary(Blackhole blackhole) {
+        for (Name name : names) {
+            blackhole.consume(name.uppercasing(dictionary).toCamelCase());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IdentifierSet.SIZE)
+    public void uppercasingAdHocTerms(Blackhole blackhole) {
+        for (Name name : names) {
+            blackhole.consume(name.uppercasing(acronyms).toCamelCase());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.codepoetics.navn.benchmarks;
+
+import com.codepoetics.navn.Name;
+import com.codepoetics.navn.SourceFormat;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FormatBenchmark {
+
+    @Param
+    public IdentifierSet identifierSet;
+
+    private Name[] names;
+
+    @Setup
+    public void setUp() {
+        names = Stream.of(identifierSet.identifiers(SourceFormat.UNDERSCORE_SEPARATED))
+                .map(Name::of)
+                .toArray(Name[]::new);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IdentifierSet.SIZE)
+    public void toCamelCase(Blackhole blackhole) {
+        for (Name name : names) {
+            blackhole.consume(name.toCamelCase());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IdentifierSet.SIZE)
+    public void toTitleCase(Blackhole blackhole) {
+        for (Name name : names) {
+            blackhole.consume(name.toTitleCase());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IdentifierSet.SIZE)
+    public void toUnderscored(Blackhole blackhole) {
+        for (Name name : names) {
+            blackhole.consume(name.toUnderscored());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IdentifierSet.SIZE)
+    public void toConstant(Blackhole blackhole) {
+        for (Name name : names) {
+            blackhole.consume(name.toConstant());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IdentifierSet.SIZE)
+    public void toAddress(Blackhole blackhole) {
+        for (Name name : names) {
+            blackhole.consume(name.toAddress());
+        }
+    }
+}
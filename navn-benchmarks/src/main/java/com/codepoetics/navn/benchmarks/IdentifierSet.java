@@ -0,0 +1,99 @@
+package com.codepoetics.navn.benchmarks;
+
+import com.codepoetics.navn.SourceFormat;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public enum IdentifierSet {
+    SHORT_COLUMNS() {
+        @Override
+        String[][] parts(Random random) {
+            return Stream.generate(() -> pick(random, SHORT_WORDS, 1 + random.nextInt(2)))
+                    .limit(SIZE)
+                    .toArray(String[][]::new);
+        }
+    },
+    LONG_GENERATED() {
+        @Override
+        String[][] parts(Random random) {
+            return Stream.generate(() -> pick(random, LONG_WORDS, 5 + random.nextInt(5)))
+                    .limit(SIZE)
+                    .toArray(String[][]::new);
+        }
+    },
+    ACRONYM_HEAVY() {
+        @Override
+        String[][] parts(Random random) {
+            return Stream.generate(() -> {
+                        String[] parts = pick(random, LONG_WORDS, 2 + random.nextInt(3));
+                        for (int i = 0; i < parts.length; i += 2) {
+                            parts[i] = ACRONYMS[random.nextInt(ACRONYMS.length)];
+                        }
+                        return parts;
+                    })
+                    .limit(SIZE)
+                    .toArray(String[][]::new);
+        }
+    };
+
+    public static final int SIZE = 64;
+
+    private static final String[] SHORT_WORDS = {
+            "id", "name", "created", "updated", "at", "by", "user", "email", "status", "amount",
+            "order", "is", "active", "type", "code", "count", "date", "key", "value", "version"
+    };
+
+    private static final String[] LONG_WORDS = {
+            "customer", "account", "billing", "address", "line", "override", "effective", "timestamp",
+            "transaction", "settlement", "reference", "identifier", "currency", "exchange", "rate",
+            "primary", "secondary", "contact", "preference", "notification", "channel", "threshold"
+    };
+
+    private static final String[] ACRONYMS = {
+            "xml", "http", "url", "uri", "csv", "json", "api", "sql", "utc", "iso", "uuid", "html"
+    };
+
+    private static final Set<String> ACRONYM_SET = new HashSet<>(Arrays.asList(ACRONYMS));
+
+    abstract String[][] parts(Random random);
+
+    public String[] identifiers(SourceFormat format) {
+        return Stream.of(parts(new Random(ordinal())))
+                .map(parts -> render(parts, format))
+                .toArray(String[]::new);
+    }
+
+    public static String[] acronyms() {
+        return ACRONYMS.clone();
+    }
+
+    private static String[] pick(Random random, String[] words, int count) {
+        return random.ints(count, 0, words.length).mapToObj(i -> words[i]).toArray(String[]::new);
+    }
+
+    private static String render(String[] parts, SourceFormat format) {
+        switch (format) {
+            case WHITESPACE_SEPARATED:
+                return Stream.of(parts).collect(Collectors.joining(" "));
+            case UNDERSCORE_SEPARATED:
+                return Stream.of(parts).collect(Collectors.joining("_"));
+            case HYPHEN_SEPARATED:
+                return Stream.of(parts).collect(Collectors.joining("-"));
+            case CASE_SEPARATED:
+                return Stream.of(parts).map(IdentifierSet::capitalise).collect(Collectors.joining());
+            default:
+                throw new IllegalArgumentException("Unknown source format " + format);
+        }
+    }
+
+    private static String capitalise(String part) {
+        return ACRONYM_SET.contains(part)
+                ? part.toUpperCase()
+                : Character.toUpperCase(part.charAt(0)) + part.substring(1);
+    }
+}
@@ -0,0 +1,54 @@
+package com.codepoetics.navn.benchmarks;
+
+import com.codepoetics.navn.Name;
+import com.codepoetics.navn.SourceFormat;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParseBenchmark {
+
+    @Param
+    public IdentifierSet identifierSet;
+
+    @Param
+    public SourceFormat sourceFormat;
+
+    private String[] identifiers;
+
+    @Setup
+    public void setUp() {
+        identifiers = identifierSet.identifiers(sourceFormat);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IdentifierSet.SIZE)
+    public void detectAndSplit(Blackhole blackhole) {
+        for (String identifier : identifiers) {
+            blackhole.consume(Name.of(identifier));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IdentifierSet.SIZE)
+    public void detectSplitAndMaterialise(Blackhole blackhole) {
+        for (String identifier : identifiers) {
+            blackhole.consume(Name.of(identifier).toArray());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IdentifierSet.SIZE)
+    public void splitWithKnownFormat(Blackhole blackhole) {
+        for (String identifier : identifiers) {
+            blackhole.consume(Name.of(identifier, sourceFormat).toArray());
+        }
+    }
+}
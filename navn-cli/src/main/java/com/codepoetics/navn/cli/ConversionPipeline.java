@@ -0,0 +1,192 @@
+package com.codepoetics.navn.cli;
+
+import com.codepoetics.navn.NameConverter;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class ConversionPipeline {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+    private static final int MAX_BUFFER_SIZE = Integer.MAX_VALUE - 8;
+
+    private static final Future<Chunk> END_OF_INPUT = CompletableFuture.completedFuture(null);
+
+    public static ConversionPipeline of(NameConverter converter) {
+        return of(converter, Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_SIZE);
+    }
+
+    public static ConversionPipeline of(NameConverter converter, int threads, int chunkSize) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be at least 1, was " + threads);
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least 1, was " + chunkSize);
+        }
+        return new ConversionPipeline(converter, threads, chunkSize);
+    }
+
+    private final NameConverter converter;
+    private final int threads;
+    private final int chunkSize;
+
+    private ConversionPipeline(NameConverter converter, int threads, int chunkSize) {
+        this.converter = converter;
+        this.threads = threads;
+        this.chunkSize = chunkSize;
+    }
+
+    public long run(List<? extends ReadableByteChannel> inputs, WritableByteChannel output) throws IOException {
+        ExecutorService workers = Executors.newFixedThreadPool(threads, daemonThreads("navn-worker-"));
+        BlockingQueue<Future<Chunk>> pending = new ArrayBlockingQueue<>(threads * 2);
+        Thread reader = daemonThreads("navn-reader-").newThread(() -> read(inputs, workers, pending));
+        reader.start();
+        try {
+            return write(pending, output);
+        } finally {
+            reader.interrupt();
+            workers.shutdownNow();
+        }
+    }
+
+    private void read(List<? extends ReadableByteChannel> inputs, ExecutorService workers, BlockingQueue<Future<Chunk>> pending) {
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(chunkSize);
+            for (ReadableByteChannel input : inputs) {
+                while (input.read(buffer) >= 0) {
+                    if (!buffer.hasRemaining()) {
+                        buffer = submitCompleteLines(buffer, workers, pending);
+                    }
+                }
+                if (buffer.position() > 0) {
+                    submit(buffer.array(), buffer.position(), workers, pending);
+                    buffer = ByteBuffer.allocate(chunkSize);
+                }
+            }
+            pending.put(END_OF_INPUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable e) {
+            // Errors such as OutOfMemoryError must still reach the writer, or it would wait for ever.
+            fail(pending, e);
+        }
+    }
+
+    private ByteBuffer submitCompleteLines(ByteBuffer full, ExecutorService workers, BlockingQueue<Future<Chunk>> pending) throws IOException, InterruptedException {
+        int end = full.position();
+        while (end > 0 && full.get(end - 1) != '\n') {
+            end--;
+        }
+        if (end == 0) {
+            int capacity = full.capacity();
+            if (capacity >= MAX_BUFFER_SIZE) {
+                throw new IOException("Line too long: no line break found in " + capacity + " bytes");
+            }
+            ByteBuffer larger = ByteBuffer.allocate(capacity > MAX_BUFFER_SIZE / 2 ? MAX_BUFFER_SIZE : capacity * 2);
+            full.flip();
+            return larger.put(full);
+        }
+        int remainder = full.position() - end;
+        ByteBuffer next = ByteBuffer.allocate(Math.max(chunkSize, remainder));
+        next.put(full.array(), end, remainder);
+        submit(full.array(), end, workers, pending);
+        return next;
+    }
+
+    private void submit(byte[] bytes, int length, ExecutorService workers, BlockingQueue<Future<Chunk>> pending) throws InterruptedException {
+        pending.put(workers.submit(() -> convertLines(bytes, length)));
+    }
+
+    private Chunk convertLines(byte[] bytes, int length) {
+        String text = new String(bytes, 0, length, StandardCharsets.UTF_8);
+        StringBuilder converted = new StringBuilder(length + (length >> 2));
+        int lines = 0;
+        int start = 0;
+        while (start < text.length()) {
+            int end = text.indexOf('\n', start);
+            if (end < 0) {
+                end = text.length();
+            }
+            int lineEnd = end > start && text.charAt(end - 1) == '\r' ? end - 1 : end;
+            converter.convert(text.substring(start, lineEnd), converted).append('\n');
+            lines++;
+            start = end + 1;
+        }
+        return new Chunk(StandardCharsets.UTF_8.encode(CharBuffer.wrap(converted)), lines);
+    }
+
+    private static long write(BlockingQueue<Future<Chunk>> pending, WritableByteChannel output) throws IOException {
+        long lines = 0;
+        try {
+            for (Future<Chunk> next = pending.take(); next != END_OF_INPUT; next = pending.take()) {
+                Chunk chunk = next.get();
+                while (chunk.bytes.hasRemaining()) {
+                    output.write(chunk.bytes);
+                }
+                lines += chunk.lines;
+            }
+            return lines;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted after writing " + lines + " lines");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private static void fail(BlockingQueue<Future<Chunk>> pending, Throwable e) {
+        CompletableFuture<Chunk> failed = new CompletableFuture<>();
+        failed.completeExceptionally(e);
+        try {
+            pending.put(failed);
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class Chunk {
+        private final ByteBuffer bytes;
+        private final int lines;
+
+        private Chunk(ByteBuffer bytes, int lines) {
+            this.bytes = bytes;
+            this.lines = lines;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.codepoetics.navn.cli;
+
+import com.codepoetics.navn.Name;
+import com.codepoetics.navn.NameConverter;
+import com.codepoetics.navn.NameStyle;
+import com.codepoetics.navn.SourceFormat;
+
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class NavnCli {
+
+    static final int SUCCESS = 0;
+    static final int FAILURE = 1;
+    static final int USAGE = 2;
+
+    private static final String HELP = String.join("\n",
+            "Usage: navn [options] [file...]",
+            "",
+            "Converts one identifier per line, reading the named files in order, or standard input",
+            "when no files are given or a file is named -.",
+            "",
+            "  -f, --from FORMAT       whitespace, underscore, hyphen or case separated input",
+            "                          (default: detected for each line)",
+            "  -t, --to STYLE          underscored, hyphenated, constant, camel-case, title-case",
+            "                          or address (default: underscored)",
+            "  -o, --output FILE       write to FILE instead of standard output",
+            "  -j, --threads N         number of worker threads (default: available processors)",
+            "  -c, --chunk-size BYTES  bytes of input converted per task (default: 1048576)",
+            "  -h, --help              show this message",
+            "");
+
+    private NavnCli() {
+    }
+
+    public static void main(String[] args) {
+        FileChannel in = new FileInputStream(FileDescriptor.in).getChannel();
+        FileChannel out = new FileOutputStream(FileDescriptor.out).getChannel();
+        System.exit(run(args, in, out, System.err));
+    }
+
+    static int run(String[] args, ReadableByteChannel in, WritableByteChannel out, PrintStream err) {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            err.println("navn: " + e.getMessage());
+            err.print(HELP);
+            return USAGE;
+        }
+        if (options.help) {
+            err.print(HELP);
+            return SUCCESS;
+        }
+
+        List<FileChannel> opened = new ArrayList<>();
+        try {
+            List<ReadableByteChannel> inputs = new ArrayList<>();
+            for (String file : options.files) {
+                if (file.equals("-")) {
+                    inputs.add(in);
+                } else {
+                    FileChannel input = FileChannel.open(Paths.get(file), StandardOpenOption.READ);
+                    opened.add(input);
+                    inputs.add(input);
+                }
+            }
+            if (inputs.isEmpty()) {
+                inputs.add(in);
+            }
+
+            WritableByteChannel output = out;
+            if (options.output != null) {
+                FileChannel file = FileChannel.open(Paths.get(options.output),
+                        StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                opened.add(file);
+                output = file;
+            }
+
+            ConversionPipeline.of(options.converter(), options.threads, options.chunkSize).run(inputs, output);
+            return SUCCESS;
+        } catch (IOException | RuntimeException e) {
+            err.println("navn: " + e);
+            return FAILURE;
+        } finally {
+            for (FileChannel channel : opened) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    err.println("navn: " + e);
+                }
+            }
+        }
+    }
+
+    private static final class Options {
+
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                switch (arg) {
+                    case "-f":
+                    case "--from":
+                        options.format = sourceFormat(value(args, ++i, arg));
+                        break;
+                    case "-t":
+                    case "--to":
+                        options.style = nameStyle(value(args, ++i, arg));
+                        break;
+                    case "-o":
+                    case "--output":
+                        options.output = value(args, ++i, arg);
+                        break;
+                    case "-j":
+                    case "--threads":
+                        options.threads = positive(value(args, ++i, arg), arg);
+                        break;
+                    case "-c":
+                    case "--chunk-size":
+                        options.chunkSize = positive(value(args, ++i, arg), arg);
+                        break;
+                    case "-h":
+                    case "--help":
+                        options.help = true;
+                        break;
+                    default:
+                        if (arg.startsWith("-") && !arg.equals("-")) {
+                            throw new IllegalArgumentException("unknown option " + arg);
+                        }
+                        options.files.add(arg);
+                }
+            }
+            return options;
+        }
+
+        private static String value(String[] args, int index, String option) {
+            if (index >= args.length) {
+                throw new IllegalArgumentException(option + " requires a value");
+            }
+            return args[index];
+        }
+
+        private static int positive(String value, String option) {
+            try {
+                int parsed = Integer.parseInt(value);
+                if (parsed > 0) {
+                    return parsed;
+                }
+            } catch (NumberFormatException e) {
+                // reported below
+            }
+            throw new IllegalArgumentException(option + " must be a positive integer, was " + value);
+        }
+
+        private static SourceFormat sourceFormat(String value) {
+            String constant = Name.of(value).toConstant();
+            try {
+                return SourceFormat.valueOf(constant.endsWith("_SEPARATED") ? constant : constant + "_SEPARATED");
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("unknown source format " + value);
+            }
+        }
+
+        private static NameStyle nameStyle(String value) {
+            try {
+                return NameStyle.valueOf(Name.of(value).toConstant());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("unknown style " + value);
+            }
+        }
+
+        private SourceFormat format;
+        private NameStyle style = NameStyle.UNDERSCORED;
+        private String output;
+        private int threads = Runtime.getRuntime().availableProcessors();
+        private int chunkSize = ConversionPipeline.DEFAULT_CHUNK_SIZE;
+        private boolean help;
+        private final List<String> files = new ArrayList<>();
+
+        NameConverter converter() {
+            return format == null ? style.converter() : style.converter().from(format);
+        }
+    }
+}
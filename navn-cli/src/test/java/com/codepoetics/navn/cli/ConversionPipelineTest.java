@@ -0,0 +1,113 @@
+package com.codepoetics.navn.cli;
+
+import com.codepoetics.navn.NameConverter;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+
+public class ConversionPipelineTest {
+
+    @Test public void
+    writesConvertedLinesInInputOrder() throws IOException {
+        StringBuilder input = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            input.append("customerOrder").append(i).append("Id\n");
+            expected.append("customer_order").append(i).append("_id\n");
+        }
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long lines = ConversionPipeline.of(NameConverter.toUnderscored(), 4, 64)
+                .run(inputs(input.toString()), Channels.newChannel(output));
+
+        assertThat(lines, equalTo(5000L));
+        assertThat(text(output), equalTo(expected.toString()));
+    }
+
+    @Test public void
+    growsChunksToHoldLongLines() throws IOException {
+        StringBuilder longLine = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            longLine.append("part_");
+        }
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ConversionPipeline.of(NameConverter.toHyphenated(), 2, 16)
+                .run(inputs("short_one\n" + longLine + "end\nlast_one\n"), Channels.newChannel(output));
+
+        assertThat(text(output), equalTo("short-one\n" + longLine.toString().replace('_', '-') + "end\nlast-one\n"));
+    }
+
+    @Test public void
+    carriesRemaindersLongerThanTheChunkSize() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long lines = ConversionPipeline.of(NameConverter.toUnderscored(), 2, 4)
+                .run(inputs("aaaaaaaaaa\nbbbbbbbb\ncccDdd\n"), Channels.newChannel(output));
+
+        assertThat(lines, equalTo(3L));
+        assertThat(text(output), equalTo("aaaaaaaaaa\nbbbbbbbb\nccc_ddd\n"));
+    }
+
+    @Test public void
+    concatenatesInputsAndHandlesMissingFinalNewlines() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long lines = ConversionPipeline.of(NameConverter.toCamelCase(), 2, 8)
+                .run(inputs("first_file\r\nno_newline", "", "straße_name\n\nlast"), Channels.newChannel(output));
+
+        assertThat(lines, equalTo(5L));
+        assertThat(text(output), equalTo("firstFile\nnoNewline\nstraßeName\n\nlast\n"));
+    }
+
+    @Test(timeout = 10000) public void
+    reportsErrorsThrownWhileReading() {
+        ReadableByteChannel failing = new ReadableByteChannel() {
+            @Override
+            public int read(ByteBuffer dst) {
+                throw new OutOfMemoryError("Simulated");
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        try {
+            ConversionPipeline.of(NameConverter.toUnderscored(), 2, 16)
+                    .run(Collections.singletonList(failing), Channels.newChannel(new ByteArrayOutputStream()));
+            fail("Expected the reader's error to be reported");
+        } catch (IOException e) {
+            assertThat(e.getCause(), instanceOf(OutOfMemoryError.class));
+        }
+    }
+
+    private static List<ReadableByteChannel> inputs(String...contents) {
+        ReadableByteChannel[] channels = new ReadableByteChannel[contents.length];
+        for (int i = 0; i < contents.length; i++) {
+            channels[i] = Channels.newChannel(new ByteArrayInputStream(contents[i].getBytes(StandardCharsets.UTF_8)));
+        }
+        return channels.length == 1 ? Collections.singletonList(channels[0]) : Arrays.asList(channels);
+    }
+
+    private static String text(ByteArrayOutputStream output) {
+        return new String(output.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
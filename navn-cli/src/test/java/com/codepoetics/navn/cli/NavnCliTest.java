@@ -0,0 +1,52 @@
+package com.codepoetics.navn.cli;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class NavnCliTest {
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    @Test public void
+    convertsStandardInputToTheRequestedStyle() {
+        assertThat(run("customer_id\norder-line_number\n", "--from", "underscore", "--to", "camel-case"), equalTo(NavnCli.SUCCESS));
+        assertThat(text(out), equalTo("customerId\norder-lineNumber\n"));
+    }
+
+    @Test public void
+    detectsTheSourceFormatByDefault() {
+        assertThat(run("customerId\nORDER_LINE\n", "-t", "CONSTANT", "-j", "1"), equalTo(NavnCli.SUCCESS));
+        assertThat(text(out), equalTo("CUSTOMER_ID\nORDER_LINE\n"));
+    }
+
+    @Test public void
+    rejectsUnknownOptions() {
+        assertThat(run("", "--to", "shouting"), equalTo(NavnCli.USAGE));
+        assertThat(text(err), containsString("unknown style shouting"));
+
+        err.reset();
+        assertThat(run("", "--threads", "none"), equalTo(NavnCli.USAGE));
+        assertThat(text(err), containsString("--threads must be a positive integer"));
+    }
+
+    private int run(String input, String...args) {
+        return NavnCli.run(args,
+                Channels.newChannel(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8))),
+                Channels.newChannel(out),
+                new PrintStream(err, true));
+    }
+
+    private static String text(ByteArrayOutputStream output) {
+        return new String(output.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
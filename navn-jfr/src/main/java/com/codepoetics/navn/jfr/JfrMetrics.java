@@ -0,0 +1,74 @@
+package com.codepoetics.navn.jfr;
+
+import com.codepoetics.navn.NavnMetrics;
+import com.codepoetics.navn.SourceFormat;
+import jdk.jfr.FlightRecorder;
+
+import java.time.Duration;
+
+public final class JfrMetrics implements NavnMetrics {
+
+    public static boolean isAvailable() {
+        try {
+            return FlightRecorder.isAvailable();
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+
+    public static boolean install(Duration threshold) {
+        return install(threshold, NavnMetrics.NONE);
+    }
+
+    public static boolean install(Duration threshold, NavnMetrics delegate) {
+        if (!isAvailable()) {
+            NavnMetrics.install(delegate);
+            return false;
+        }
+        NavnMetrics.install(new JfrMetrics(threshold.toNanos(), delegate));
+        return true;
+    }
+
+    private final long thresholdNanos;
+    private final NavnMetrics delegate;
+
+    private JfrMetrics(long thresholdNanos, NavnMetrics delegate) {
+        this.thresholdNanos = thresholdNanos;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void formatDetected(SourceFormat format) {
+        delegate.formatDetected(format);
+    }
+
+    @Override
+    public void partsRead(int partCount) {
+        delegate.partsRead(partCount);
+    }
+
+    @Override
+    public void caseSeparatedRead() {
+        delegate.caseSeparatedRead();
+    }
+
+    @Override
+    public void formatted(int partCount, long elapsedNanos) {
+        delegate.formatted(partCount, elapsedNanos);
+    }
+
+    @Override
+    public void converted(String source, String result, long elapsedNanos) {
+        delegate.converted(source, result, elapsedNanos);
+        if (elapsedNanos < thresholdNanos) {
+            return;
+        }
+        SlowConversionEvent event = new SlowConversionEvent();
+        if (event.shouldCommit()) {
+            event.source = source;
+            event.result = result;
+            event.elapsed = elapsedNanos;
+            event.commit();
+        }
+    }
+}
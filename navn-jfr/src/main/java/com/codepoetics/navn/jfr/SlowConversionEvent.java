@@ -0,0 +1,25 @@
+package com.codepoetics.navn.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+@Name("com.codepoetics.navn.SlowConversion")
+@Label("Slow Name Conversion")
+@Category("Navn")
+@Description("A NameConverter conversion that took longer than the configured threshold")
+final class SlowConversionEvent extends Event {
+
+    @Label("Source")
+    String source;
+
+    @Label("Result")
+    String result;
+
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+}
@@ -0,0 +1,60 @@
+package com.codepoetics.navn.jfr;
+
+import com.codepoetics.navn.NameConverter;
+import com.codepoetics.navn.NavnCounters;
+import com.codepoetics.navn.NavnMetrics;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assume.assumeTrue;
+
+public class JfrMetricsTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @After public void
+    uninstall() {
+        NavnMetrics.install(null);
+    }
+
+    @Test public void
+    recordsSlowConversions() throws Exception {
+        assumeTrue(JfrMetrics.isAvailable());
+        NavnCounters counters = new NavnCounters();
+        Path file = folder.newFile("navn.jfr").toPath();
+
+        try (Recording recording = new Recording()) {
+            recording.enable("com.codepoetics.navn.SlowConversion");
+            recording.start();
+
+            assertThat(JfrMetrics.install(Duration.ZERO, counters), equalTo(true));
+            NameConverter.toUnderscored().convert("customerId");
+            JfrMetrics.install(Duration.ofHours(1), counters);
+            NameConverter.toUnderscored().convert("orderId");
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<String> sources = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("com.codepoetics.navn.SlowConversion"))
+                .map(event -> event.getString("source") + " -> " + event.getString("result"))
+                .collect(Collectors.toList());
+        assertThat(sources, contains("customerId -> customer_id"));
+        assertThat(counters.conversionCount(), equalTo(2L));
+    }
+}
@@ -0,0 +1,214 @@
+package com.codepoetics.navn.processor;
+
+import com.codepoetics.navn.GenerateNames;
+import com.codepoetics.navn.Name;
+import com.codepoetics.navn.NameStyle;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+@SupportedAnnotationTypes("com.codepoetics.navn.GenerateNames")
+public final class NameTableProcessor extends AbstractProcessor {
+
+    private static final Set<String> RESERVED_NAMES = new HashSet<>(Arrays.asList("NAME_TABLE", "CONVERTED_NAME_TABLE"));
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+        for (Element element : roundEnvironment.getElementsAnnotatedWith(GenerateNames.class)) {
+            if (element.getKind() != ElementKind.CLASS && element.getKind() != ElementKind.ENUM) {
+                error(element, "@GenerateNames can only be applied to classes and enums");
+                continue;
+            }
+            process((TypeElement) element);
+        }
+        return true;
+    }
+
+    private void process(TypeElement type) {
+        GenerateNames annotation = type.getAnnotation(GenerateNames.class);
+        NameTable table = NameTable.of(type, annotation.value());
+        if (!isValid(type, table)) {
+            return;
+        }
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String className = annotation.className().isEmpty()
+                ? type.getSimpleName() + "Names"
+                : annotation.className();
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            writer.write(table.generate(packageName, className));
+        } catch (IOException e) {
+            error(type, "Unable to write " + qualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    private boolean isValid(TypeElement type, NameTable table) {
+        boolean valid = true;
+        valid &= isUnique(type, table.names, table.constants, "constant");
+        valid &= isUnique(type, table.names, table.converted, "converted name");
+        for (String constant : table.constants) {
+            if (!SourceVersion.isName(constant) || RESERVED_NAMES.contains(constant)) {
+                error(type, "Cannot generate a constant named " + constant);
+                valid = false;
+            }
+        }
+        return valid;
+    }
+
+    private boolean isUnique(TypeElement type, List<String> names, List<String> values, String description) {
+        Map<String, Integer> seen = new HashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            Integer previous = seen.put(values.get(i), i);
+            if (previous != null) {
+                error(type, "Duplicate " + description + " " + values.get(i) + " generated for "
+                        + type.getSimpleName() + "." + names.get(previous) + " and " + type.getSimpleName() + "." + names.get(i));
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private static final class NameTable {
+
+        static NameTable of(TypeElement type, NameStyle style) {
+            boolean isEnum = type.getKind() == ElementKind.ENUM;
+            NameTable table = new NameTable(type, isEnum);
+            for (Element member : type.getEnclosedElements()) {
+                boolean include = isEnum
+                        ? member.getKind() == ElementKind.ENUM_CONSTANT
+                        : member.getKind() == ElementKind.FIELD && !member.getModifiers().contains(Modifier.STATIC);
+                if (include) {
+                    String name = member.getSimpleName().toString();
+                    Name parsed = isEnum ? Name.of(name).map(part -> part.toLowerCase(Locale.ROOT)) : Name.of(name);
+                    table.names.add(name);
+                    table.converted.add(style.format(parsed));
+                    table.constants.add(parsed.toConstant());
+                }
+            }
+            return table;
+        }
+
+        private final TypeElement type;
+        private final boolean isEnum;
+        private final List<String> names = new ArrayList<>();
+        private final List<String> converted = new ArrayList<>();
+        private final List<String> constants = new ArrayList<>();
+
+        private NameTable(TypeElement type, boolean isEnum) {
+            this.type = type;
+            this.isEnum = isEnum;
+        }
+
+        String generate(String packageName, String className) {
+            StringBuilder source = new StringBuilder();
+            if (!packageName.isEmpty()) {
+                source.append("package ").append(packageName).append(";\n\n");
+            }
+            String typeName = type.getQualifiedName().toString();
+            if (type.getEnclosingElement() instanceof PackageElement) {
+                typeName = type.getSimpleName().toString();
+            }
+
+            source.append("public final class ").append(className).append(" {\n\n");
+            for (int i = 0; i < names.size(); i++) {
+                source.append("    public static final String ").append(constants.get(i))
+                        .append(" = ").append(literal(converted.get(i))).append(";\n");
+            }
+            if (!names.isEmpty()) {
+                source.append('\n');
+            }
+            source.append("    private static final String[] NAME_TABLE = {");
+            appendLiterals(source, names);
+            source.append("};\n");
+            source.append("    private static final String[] CONVERTED_NAME_TABLE = {");
+            appendLiterals(source, converted);
+            source.append("};\n\n");
+
+            source.append("    private ").append(className).append("() {\n    }\n\n");
+
+            source.append("    public static String[] names() {\n        return NAME_TABLE.clone();\n    }\n\n");
+            source.append("    public static String[] convertedNames() {\n        return CONVERTED_NAME_TABLE.clone();\n    }\n\n");
+
+            if (isEnum) {
+                source.append("    public static String forward(").append(typeName).append(" value) {\n");
+                source.append("        return value == null ? null : CONVERTED_NAME_TABLE[value.ordinal()];\n    }\n\n");
+            }
+
+            source.append("    public static String forward(String name) {\n");
+            appendSwitch(source, "name", names, constants);
+            source.append("    }\n\n");
+
+            source.append("    public static ").append(isEnum ? typeName : "String").append(" reverse(String convertedName) {\n");
+            List<String> reverseResults = new ArrayList<>();
+            for (String name : names) {
+                reverseResults.add(isEnum ? typeName + "." + name : literal(name));
+            }
+            appendSwitch(source, "convertedName", converted, reverseResults);
+            source.append("    }\n}\n");
+            return source.toString();
+        }
+
+        private static void appendSwitch(StringBuilder source, String parameter, List<String> keys, List<String> results) {
+            source.append("        if (").append(parameter).append(" == null) {\n            return null;\n        }\n");
+            source.append("        switch (").append(parameter).append(") {\n");
+            for (int i = 0; i < keys.size(); i++) {
+                source.append("            case ").append(literal(keys.get(i))).append(":\n");
+                source.append("                return ").append(results.get(i)).append(";\n");
+            }
+            source.append("            default:\n                return null;\n        }\n");
+        }
+
+        private static void appendLiterals(StringBuilder source, List<String> values) {
+            for (int i = 0; i < values.size(); i++) {
+                source.append(i == 0 ? " " : ", ").append(literal(values.get(i)));
+            }
+            if (!values.isEmpty()) {
+                source.append(' ');
+            }
+        }
+
+        private static String literal(String value) {
+            StringBuilder literal = new StringBuilder("\"");
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"' || c == '\\') {
+                    literal.append('\\').append(c);
+                } else if (c < ' ' || c > '~') {
+                    literal.append(String.format("\\u%04x", (int) c));
+                } else {
+                    literal.append(c);
+                }
+            }
+            return literal.append('"').toString();
+        }
+    }
+}
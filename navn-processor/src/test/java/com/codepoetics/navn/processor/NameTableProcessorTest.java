@@ -0,0 +1,120 @@
+package com.codepoetics.navn.processor;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.containsString;
+
+public class NameTableProcessorTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private DiagnosticCollector<JavaFileObject> diagnostics;
+
+    private ClassLoader compile(String className, String source) throws IOException {
+        Path sources = folder.newFolder("sources").toPath();
+        File classes = folder.newFolder("classes");
+        Path sourceFile = sources.resolve(className.replace('.', '/') + ".java");
+        Files.createDirectories(sourceFile.getParent());
+        Files.write(sourceFile, source.getBytes(StandardCharsets.UTF_8));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            List<String> options = Arrays.asList(
+                    "-classpath", System.getProperty("java.class.path"),
+                    "-d", classes.getPath(),
+                    "-s", sources.toString());
+            JavaCompiler.CompilationTask task = compiler.getTask(null, files, diagnostics, options, null,
+                    files.getJavaFileObjects(sourceFile.toFile()));
+            task.setProcessors(Collections.singletonList(new NameTableProcessor()));
+            if (!task.call()) {
+                return null;
+            }
+        }
+        return new URLClassLoader(new URL[] { classes.toURI().toURL() }, getClass().getClassLoader());
+    }
+
+    private static Object call(Class<?> type, String method, Class<?> parameterType, Object argument) throws Exception {
+        Method target = type.getMethod(method, parameterType);
+        return target.invoke(null, argument);
+    }
+
+    @Test public void
+    generatesLookupTablesForFields() throws Exception {
+        ClassLoader loader = compile("example.Customer",
+                "package example;\n"
+                        + "@com.codepoetics.navn.GenerateNames\n"
+                        + "public class Customer {\n"
+                        + "    static final long serialVersionUID = 1L;\n"
+                        + "    String firstName;\n"
+                        + "    java.time.LocalDate dateOfBirth;\n"
+                        + "    String xmlPayload;\n"
+                        + "}\n");
+        Class<?> names = loader.loadClass("example.CustomerNames");
+
+        assertThat(names.getField("DATE_OF_BIRTH").get(null), equalTo("date_of_birth"));
+        assertThat(call(names, "forward", String.class, "firstName"), equalTo("first_name"));
+        assertThat(call(names, "reverse", String.class, "xml_payload"), equalTo("xmlPayload"));
+        assertThat(call(names, "reverse", String.class, "serial_version_uid"), nullValue());
+        assertThat((String[]) names.getMethod("names").invoke(null), arrayContaining("firstName", "dateOfBirth", "xmlPayload"));
+    }
+
+    @Test public void
+    generatesLookupTablesForEnumConstants() throws Exception {
+        ClassLoader loader = compile("example.Status",
+                "package example;\n"
+                        + "@com.codepoetics.navn.GenerateNames(value = com.codepoetics.navn.NameStyle.CAMEL_CASE, className = \"StatusWireNames\")\n"
+                        + "public enum Status { AWAITING_PAYMENT, SHIPPED }\n");
+        Class<?> status = loader.loadClass("example.Status");
+        Class<?> names = loader.loadClass("example.StatusWireNames");
+        Object shipped = status.getEnumConstants()[1];
+
+        assertThat(call(names, "forward", status, shipped), equalTo("shipped"));
+        assertThat(call(names, "forward", String.class, "AWAITING_PAYMENT"), equalTo("awaitingPayment"));
+        assertThat(call(names, "reverse", String.class, "shipped"), equalTo(shipped));
+    }
+
+    @Test public void
+    reportsCollidingNames() throws Exception {
+        ClassLoader loader = compile("example.Clash",
+                "package example;\n"
+                        + "@com.codepoetics.navn.GenerateNames\n"
+                        + "public class Clash {\n"
+                        + "    String orderId;\n"
+                        + "    String order_id;\n"
+                        + "}\n");
+
+        assertThat(loader, nullValue());
+        String messages = diagnostics.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                .map(diagnostic -> diagnostic.getMessage(null))
+                .collect(Collectors.joining("\n"));
+        assertThat(messages, containsString("Clash.orderId and Clash.order_id"));
+    }
+}
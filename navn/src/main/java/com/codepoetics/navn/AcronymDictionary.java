@@ -0,0 +1,154 @@
+package com.codepoetics.navn;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public final class AcronymDictionary {
+
+    private static final AcronymDictionary EMPTY = of(new String[0]);
+
+    public static AcronymDictionary empty() {
+        return EMPTY;
+    }
+
+    public static AcronymDictionary of(String...acronyms) {
+        return of(Arrays.asList(acronyms));
+    }
+
+    public static AcronymDictionary of(Collection<String> acronyms) {
+        List<Node> nodes = new ArrayList<>();
+        Node root = new Node(0);
+        nodes.add(root);
+        int size = 0;
+
+        for (String acronym : acronyms) {
+            if (acronym.isEmpty()) {
+                continue;
+            }
+            Node node = root;
+            for (int i = 0; i < acronym.length(); i++) {
+                char c = Ascii.toLowerCase(acronym.charAt(i));
+                Node child = node.children.get(c);
+                if (child == null) {
+                    child = new Node(nodes.size());
+                    nodes.add(child);
+                    node.children.put(c, child);
+                }
+                node = child;
+            }
+            if (!node.terminal) {
+                node.terminal = true;
+                size++;
+            }
+        }
+
+        char[][] labels = new char[nodes.size()][];
+        int[][] targets = new int[nodes.size()][];
+        boolean[] terminal = new boolean[nodes.size()];
+        for (Node node : nodes) {
+            labels[node.index] = new char[node.children.size()];
+            targets[node.index] = new int[node.children.size()];
+            terminal[node.index] = node.terminal;
+            int child = 0;
+            for (Map.Entry<Character, Node> entry : node.children.entrySet()) {
+                labels[node.index][child] = entry.getKey();
+                targets[node.index][child] = entry.getValue().index;
+                child++;
+            }
+        }
+        return new AcronymDictionary(labels, targets, terminal, size);
+    }
+
+    private final char[][] labels;
+    private final int[][] targets;
+    private final boolean[] terminal;
+    private final int size;
+
+    private AcronymDictionary(char[][] labels, int[][] targets, boolean[] terminal, int size) {
+        this.labels = labels;
+        this.targets = targets;
+        this.terminal = terminal;
+        this.size = size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(CharSequence term) {
+        return matches(term, 0, term.length());
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean matches(CharSequence source, int start, int end) {
+        int node = 0;
+        for (int i = start; i < end && node >= 0; i++) {
+            node = child(node, source.charAt(i));
+        }
+        return node >= 0 && terminal[node];
+    }
+
+    int longestMatch(CharSequence source, int start, int end) {
+        int longest = 0;
+        int node = 0;
+        for (int i = start; i < end; i++) {
+            node = child(node, source.charAt(i));
+            if (node < 0) {
+                break;
+            }
+            if (terminal[node]) {
+                longest = i + 1 - start;
+            }
+        }
+        return longest;
+    }
+
+    void split(CharSequence source, int start, int end, PartsBuilder target) {
+        for (int i = start; i < end; i++) {
+            if (Ascii.isLowerCase(source.charAt(i))) {
+                target.add(start, end);
+                return;
+            }
+        }
+
+        int unmatched = start;
+        for (int i = start; i < end; ) {
+            int match = longestMatch(source, i, end);
+            if (match == 0) {
+                i++;
+                continue;
+            }
+            int matchEnd = i + match;
+            while (matchEnd < end && Character.isDigit(source.charAt(matchEnd))) {
+                matchEnd++;
+            }
+            target.add(unmatched, i);
+            target.add(i, matchEnd);
+            i = matchEnd;
+            unmatched = i;
+        }
+        target.add(unmatched, end);
+    }
+
+    private int child(int node, char c) {
+        int index = Arrays.binarySearch(labels[node], Ascii.toLowerCase(c));
+        return index < 0 ? -1 : targets[node][index];
+    }
+
+    private static final class Node {
+        private final int index;
+        private final Map<Character, Node> children = new TreeMap<>();
+        private boolean terminal;
+
+        private Node(int index) {
+            this.index = index;
+        }
+    }
+}
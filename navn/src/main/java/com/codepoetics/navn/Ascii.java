@@ -0,0 +1,57 @@
+package com.codepoetics.navn;
+
+final class Ascii {
+
+    private static final int UPPERCASE = 1;
+    private static final int LOWERCASE = 2;
+    private static final int WHITESPACE = 4;
+
+    private static final byte[] CLASSES = new byte[128];
+    private static final char[] TO_UPPERCASE = new char[128];
+    private static final char[] TO_LOWERCASE = new char[128];
+
+    static {
+        for (char c = 0; c < 128; c++) {
+            CLASSES[c] = (byte) ((Character.isUpperCase(c) ? UPPERCASE : 0)
+                    | (Character.isLowerCase(c) ? LOWERCASE : 0)
+                    | (Character.isWhitespace(c) ? WHITESPACE : 0));
+            TO_UPPERCASE[c] = Character.toUpperCase(c);
+            TO_LOWERCASE[c] = Character.toLowerCase(c);
+        }
+    }
+
+    private Ascii() {
+    }
+
+    static boolean isUpperCase(int codePoint) {
+        return codePoint < 128 ? (CLASSES[codePoint] & UPPERCASE) != 0 : Character.isUpperCase(codePoint);
+    }
+
+    static boolean isLowerCase(int codePoint) {
+        return codePoint < 128 ? (CLASSES[codePoint] & LOWERCASE) != 0 : Character.isLowerCase(codePoint);
+    }
+
+    static boolean isWhitespace(int codePoint) {
+        return codePoint < 128 ? (CLASSES[codePoint] & WHITESPACE) != 0 : Character.isWhitespace(codePoint);
+    }
+
+    static char toUpperCase(char c) {
+        return c < 128 ? TO_UPPERCASE[c] : Character.toUpperCase(c);
+    }
+
+    static char toLowerCase(char c) {
+        return c < 128 ? TO_LOWERCASE[c] : Character.toLowerCase(c);
+    }
+
+    static boolean equalsIgnoreCase(CharSequence a, CharSequence b) {
+        if (a.length() != b.length()) {
+            return false;
+        }
+        for (int i = 0; i < a.length(); i++) {
+            if (toLowerCase(a.charAt(i)) != toLowerCase(b.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,51 @@
+package com.codepoetics.navn;
+
+import java.util.concurrent.RecursiveAction;
+
+final class BatchConversion extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    static final int SEQUENTIAL_THRESHOLD = 2048;
+
+    static void convert(NameConverter converter, String[] sources, String[] results) {
+        if (sources.length <= SEQUENTIAL_THRESHOLD) {
+            convertRange(converter, sources, results, 0, sources.length);
+        } else {
+            new BatchConversion(converter, sources, results, 0, sources.length).invoke();
+        }
+    }
+
+    private static void convertRange(NameConverter converter, String[] sources, String[] results, int from, int to) {
+        StringBuilder scratch = new StringBuilder(64);
+        for (int i = from; i < to; i++) {
+            results[i] = converter.convertUsing(sources[i], scratch);
+        }
+    }
+
+    private final NameConverter converter;
+    private final String[] sources;
+    private final String[] results;
+    private final int from;
+    private final int to;
+
+    private BatchConversion(NameConverter converter, String[] sources, String[] results, int from, int to) {
+        this.converter = converter;
+        this.sources = sources;
+        this.results = results;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= SEQUENTIAL_THRESHOLD) {
+            convertRange(converter, sources, results, from, to);
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        invokeAll(
+                new BatchConversion(converter, sources, results, from, middle),
+                new BatchConversion(converter, sources, results, middle, to));
+    }
+}
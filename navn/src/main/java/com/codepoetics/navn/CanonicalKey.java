@@ -0,0 +1,160 @@
+package com.codepoetics.navn;
+
+final class CanonicalKey {
+
+    static final char PART_SEPARATOR = '_';
+
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    static long hash(CharSequence source) {
+        return new CanonicalKey(null).scan(source).hash;
+    }
+
+    static boolean matches(CharSequence source, String key) {
+        CanonicalKey scanned = new CanonicalKey(key).scan(source);
+        return !scanned.mismatched && scanned.position == key.length();
+    }
+
+    static long hashOfKey(CharSequence key) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < key.length(); i++) {
+            hash = (hash ^ key.charAt(i)) * FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    static String of(Parts parts) {
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; i < parts.size(); i++) {
+            if (parts.length(i) == 0) {
+                continue;
+            }
+            if (key.length() > 0) {
+                key.append(PART_SEPARATOR);
+            }
+            for (int j = 0; j < parts.length(i); j++) {
+                key.append(Ascii.toLowerCase(parts.charAt(i, j)));
+            }
+        }
+        return key.toString();
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        return hash ^ hash >>> 33;
+    }
+
+    private final String expected;
+    private final Lane[] lanes = { new Lane(), new Lane(), new Lane(), new Lane() };
+    private long hash;
+    private int position;
+    private boolean mismatched;
+
+    private CanonicalKey(String expected) {
+        this.expected = expected;
+    }
+
+    private CanonicalKey scan(CharSequence source) {
+        int start = 0;
+        int end = source.length();
+        while (start < end && source.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && source.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        int best = SourceScanner.NONE;
+        boolean hasUppercase = false;
+        boolean hasLowercase = false;
+        int caseState = CaseSeparatedReader.INITIAL;
+        int previous = -1;
+        Lane caseLane = lanes[SourceScanner.CASE];
+
+        for (int i = start; i < end; ) {
+            int c = Character.codePointAt(source, i);
+            int kind = SourceScanner.separatorKind(c);
+            if (kind == SourceScanner.NONE) {
+                if (Ascii.isWhitespace(c)) {
+                    best = SourceScanner.WHITESPACE;
+                }
+            } else {
+                best = Math.min(best, kind);
+            }
+            hasUppercase = hasUppercase || Ascii.isUpperCase(c);
+            hasLowercase = hasLowercase || Ascii.isLowerCase(c);
+
+            for (int lane = SourceScanner.WHITESPACE; lane < SourceScanner.CASE; lane++) {
+                if (kind == lane) {
+                    lanes[lane].boundary();
+                } else {
+                    lanes[lane].add(c);
+                }
+            }
+
+            caseState = CaseSeparatedReader.transition(caseState, c);
+            if ((caseState & CaseSeparatedReader.SPLIT_BEFORE_PREVIOUS) != 0) {
+                caseLane.boundary();
+                caseLane.add(previous);
+            } else {
+                caseLane.add(previous);
+                if ((caseState & CaseSeparatedReader.SPLIT_BEFORE_CURRENT) != 0) {
+                    caseLane.boundary();
+                }
+            }
+            previous = c;
+            i += Character.charCount(c);
+        }
+        caseLane.add(previous);
+
+        if (best == SourceScanner.NONE) {
+            best = hasLowercase && hasUppercase ? SourceScanner.CASE : SourceScanner.UNDERSCORE;
+        }
+        Lane chosen = lanes[best];
+        hash = mix(chosen.hash);
+        position = chosen.position;
+        mismatched = chosen.mismatched;
+        return this;
+    }
+
+    private final class Lane {
+        private long hash = FNV_OFFSET_BASIS;
+        private int position;
+        private boolean mismatched;
+        private boolean hasContent;
+        private boolean pendingBoundary;
+
+        private void boundary() {
+            pendingBoundary = hasContent;
+        }
+
+        private void add(int codePoint) {
+            if (codePoint < 0) {
+                return;
+            }
+            if (pendingBoundary) {
+                pendingBoundary = false;
+                emit(PART_SEPARATOR);
+            }
+            if (Character.isBmpCodePoint(codePoint)) {
+                emit(Ascii.toLowerCase((char) codePoint));
+            } else {
+                emit(Character.highSurrogate(codePoint));
+                emit(Character.lowSurrogate(codePoint));
+            }
+            hasContent = true;
+        }
+
+        private void emit(char c) {
+            hash = (hash ^ c) * FNV_PRIME;
+            if (expected != null && !mismatched) {
+                mismatched = position >= expected.length() || expected.charAt(position) != c;
+            }
+            position++;
+        }
+    }
+}
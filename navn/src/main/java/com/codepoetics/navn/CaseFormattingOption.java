@@ -0,0 +1,11 @@
+package com.codepoetics.navn;
+
+public interface CaseFormattingOption extends FormattingOption {
+
+    CaseMode caseMode(CaseMode current, CharSequence source, int start, int end, int position);
+
+    @Override
+    default String apply(String part, Long position) {
+        return caseMode(CaseMode.AS_IS, part, 0, part.length(), position.intValue()).apply(part);
+    }
+}
@@ -0,0 +1,89 @@
+package com.codepoetics.navn;
+
+import java.util.Locale;
+
+final class CaseMapping {
+
+    static final CaseMapping ROOT = new CaseMapping(Locale.ROOT);
+
+    static CaseMapping of(Locale locale) {
+        return Locale.ROOT.equals(locale) ? ROOT : new CaseMapping(locale);
+    }
+
+    private final Locale locale;
+    private final boolean asciiTables;
+
+    private CaseMapping(Locale locale) {
+        this.locale = locale;
+        // Turkish and Azerbaijani map the ASCII letters i and I to dotted and dotless forms outside ASCII.
+        String language = locale.getLanguage();
+        this.asciiTables = !language.equals("tr") && !language.equals("az");
+    }
+
+    String toLowerCase(String s) {
+        return map(s, CaseMode.LOWERCASE, false);
+    }
+
+    String toUpperCase(String s) {
+        return map(s, CaseMode.UPPERCASE, false);
+    }
+
+    String capitalise(String s) {
+        return map(s, CaseMode.CAPITALISED, true);
+    }
+
+    String toLowerCaseUnlessAllUpperCase(String s) {
+        return map(s, CaseMode.LOWERCASE, true);
+    }
+
+    String map(String s, CaseMode mode, boolean keepAllUpperCase) {
+        if (!asciiTables) {
+            return mapUnicode(s, mode, keepAllUpperCase);
+        }
+
+        boolean allUpperCase = true;
+        char[] mapped = null;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= 0x80) {
+                return mapUnicode(s, mode, keepAllUpperCase);
+            }
+            allUpperCase = allUpperCase && Ascii.isUpperCase(c);
+            char m = mode.map(c, i);
+            if (mapped == null && m != c) {
+                mapped = s.toCharArray();
+            }
+            if (mapped != null) {
+                mapped[i] = m;
+            }
+        }
+        return mapped == null || (keepAllUpperCase && allUpperCase) ? s : new String(mapped);
+    }
+
+    private int toUpperCase(int codePoint) {
+        // Map a single code point, so that characters such as ß and ﬁ are not expanded to two letters.
+        String upper = new String(Character.toChars(codePoint)).toUpperCase(locale);
+        return upper.codePointCount(0, upper.length()) == 1 ? upper.codePointAt(0) : Character.toUpperCase(codePoint);
+    }
+
+    private String mapUnicode(String s, CaseMode mode, boolean keepAllUpperCase) {
+        if (s.isEmpty() || (keepAllUpperCase && s.codePoints().allMatch(Character::isUpperCase))) {
+            return s;
+        }
+        switch (mode) {
+            case LOWERCASE:
+                return s.toLowerCase(locale);
+            case UPPERCASE:
+                return s.toUpperCase(locale);
+            case CAPITALISED:
+                int first = s.codePointAt(0);
+                int length = Character.charCount(first);
+                return new StringBuilder(s.length())
+                        .appendCodePoint(toUpperCase(first))
+                        .append(s.substring(length).toLowerCase(locale))
+                        .toString();
+            default:
+                return s;
+        }
+    }
+}
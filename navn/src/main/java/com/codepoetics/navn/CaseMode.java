@@ -0,0 +1,61 @@
+package com.codepoetics.navn;
+
+import java.io.IOException;
+
+public enum CaseMode {
+    AS_IS() {
+        @Override
+        public char map(char c, int index) {
+            return c;
+        }
+
+        @Override
+        public String apply(String s) {
+            return s;
+        }
+
+        @Override
+        void appendTo(Appendable target, CharSequence source, int start, int end) throws IOException {
+            target.append(source, start, end);
+        }
+    },
+    LOWERCASE() {
+        @Override
+        public char map(char c, int index) {
+            return Ascii.toLowerCase(c);
+        }
+    },
+    UPPERCASE() {
+        @Override
+        public char map(char c, int index) {
+            return Ascii.toUpperCase(c);
+        }
+    },
+    CAPITALISED() {
+        @Override
+        public char map(char c, int index) {
+            return index == 0 ? Ascii.toUpperCase(c) : Ascii.toLowerCase(c);
+        }
+    };
+
+    public abstract char map(char c, int index);
+
+    public boolean isAllUpperCase(CharSequence source, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!Ascii.isUpperCase(map(source.charAt(i), i - start))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public String apply(String s) {
+        return CaseMapping.ROOT.map(s, this, false);
+    }
+
+    void appendTo(Appendable target, CharSequence source, int start, int end) throws IOException {
+        for (int i = start; i < end; i++) {
+            target.append(map(source.charAt(i), i - start));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.codepoetics.navn;
+
+import java.util.Arrays;
+
+final class CaseSeparatedReader {
+
+    static final int INITIAL = 0;
+    private static final int READING_LOWERCASE = 1;
+    private static final int READING_UPPERCASE = 2;
+    private static final int READING_ACRONYM = 3;
+    private static final int STATE_MASK = 3;
+
+    static final int SPLIT_BEFORE_CURRENT = 1 << 2;
+    static final int SPLIT_BEFORE_PREVIOUS = 1 << 3;
+
+    private static final int UPPERCASE = 0;
+    private static final int OTHER = 1;
+    private static final int DIGIT = 2;
+    private static final int CHAR_CLASSES = 3;
+
+    private static final int[] TRANSITIONS = {
+            // UPPERCASE                                OTHER                                        DIGIT
+            READING_UPPERCASE,                          READING_LOWERCASE,                           READING_LOWERCASE, // INITIAL
+            READING_UPPERCASE | SPLIT_BEFORE_CURRENT,   READING_LOWERCASE,                           READING_LOWERCASE, // READING_LOWERCASE
+            READING_ACRONYM,                            READING_LOWERCASE,                           READING_LOWERCASE, // READING_UPPERCASE
+            READING_ACRONYM,                            READING_LOWERCASE | SPLIT_BEFORE_PREVIOUS,   READING_LOWERCASE  // READING_ACRONYM
+    };
+
+    private static final byte[] ASCII_CHAR_CLASSES = new byte[128];
+
+    static {
+        Arrays.fill(ASCII_CHAR_CLASSES, (byte) OTHER);
+        Arrays.fill(ASCII_CHAR_CLASSES, 'A', 'Z' + 1, (byte) UPPERCASE);
+        Arrays.fill(ASCII_CHAR_CLASSES, '0', '9' + 1, (byte) DIGIT);
+    }
+
+    private CaseSeparatedReader() {
+    }
+
+    static int transition(int state, int codePoint) {
+        return TRANSITIONS[(state & STATE_MASK) * CHAR_CLASSES + charClass(codePoint)];
+    }
+
+    private static int charClass(int codePoint) {
+        if (codePoint < ASCII_CHAR_CLASSES.length) {
+            return ASCII_CHAR_CLASSES[codePoint];
+        }
+        if (Character.isUpperCase(codePoint)) {
+            return UPPERCASE;
+        }
+        return Character.isDigit(codePoint) ? DIGIT : OTHER;
+    }
+
+    static String[] read(String input) {
+        NavnMetrics.installed().caseSeparatedRead();
+        int[] splits = new int[8];
+        int splitCount = 0;
+        int state = INITIAL;
+        int previous = 0;
+
+        for (int i = 0; i < input.length(); ) {
+            int codePoint = input.codePointAt(i);
+            state = transition(state, codePoint);
+            if ((state & (SPLIT_BEFORE_CURRENT | SPLIT_BEFORE_PREVIOUS)) != 0) {
+                if (splitCount == splits.length) {
+                    splits = Arrays.copyOf(splits, splitCount * 2);
+                }
+                splits[splitCount++] = (state & SPLIT_BEFORE_CURRENT) != 0 ? i : previous;
+            }
+            previous = i;
+            i += Character.charCount(codePoint);
+        }
+
+        if (input.isEmpty()) {
+            return new String[0];
+        }
+        String[] parts = new String[splitCount + 1];
+        int start = 0;
+        for (int i = 0; i < splitCount; i++) {
+            parts[i] = input.substring(start, splits[i]);
+            start = splits[i];
+        }
+        parts[splitCount] = input.substring(start);
+        return parts;
+    }
+}
@@ -0,0 +1,104 @@
+package com.codepoetics.navn;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+final class ClockEvictingMap<K, V> {
+
+    private final int maximumSize;
+    private final ConcurrentHashMap<K, Entry<V>> entries;
+    private final LongAdder evictions = new LongAdder();
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private Iterator<Map.Entry<K, Entry<V>>> clockHand;
+
+    ClockEvictingMap(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive, was " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.entries = new ConcurrentHashMap<>(Math.min(maximumSize, 1024));
+    }
+
+    int maximumSize() {
+        return maximumSize;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    long evictionCount() {
+        return evictions.sum();
+    }
+
+    void clear() {
+        entries.clear();
+    }
+
+    V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        entry.touch();
+        return entry.value;
+    }
+
+    V putIfAbsent(K key, V value) {
+        Entry<V> existing = entries.putIfAbsent(key, new Entry<>(value));
+        if (existing != null) {
+            existing.touch();
+            return existing.value;
+        }
+        if (entries.size() > maximumSize) {
+            evict();
+        }
+        return value;
+    }
+
+    private void evict() {
+        while (entries.size() > maximumSize && evictionLock.tryLock()) {
+            try {
+                evictExcessEntries();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void evictExcessEntries() {
+        while (entries.size() > maximumSize) {
+            if (clockHand == null || !clockHand.hasNext()) {
+                clockHand = entries.entrySet().iterator();
+                if (!clockHand.hasNext()) {
+                    return;
+                }
+            }
+            Map.Entry<K, Entry<V>> candidate = clockHand.next();
+            if (candidate.getValue().recentlyUsed) {
+                candidate.getValue().recentlyUsed = false;
+            } else if (entries.remove(candidate.getKey(), candidate.getValue())) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private volatile boolean recentlyUsed;
+
+        private Entry(V value) {
+            this.value = value;
+        }
+
+        private void touch() {
+            if (!recentlyUsed) {
+                recentlyUsed = true;
+            }
+        }
+    }
+}
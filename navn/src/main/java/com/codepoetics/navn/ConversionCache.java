@@ -0,0 +1,81 @@
+package com.codepoetics.navn;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public final class ConversionCache {
+
+    public static ConversionCache withMaximumSize(int maximumSize) {
+        return new ConversionCache(new ClockEvictingMap<>(maximumSize));
+    }
+
+    private final ClockEvictingMap<Key, String> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private ConversionCache(ClockEvictingMap<Key, String> entries) {
+        this.entries = entries;
+    }
+
+    public int maximumSize() {
+        return entries.maximumSize();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return entries.evictionCount();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    String convert(NameConverter converter, String source) {
+        Key key = new Key(converter, source);
+        String value = entries.get(key);
+        if (value != null) {
+            hits.increment();
+            return value;
+        }
+
+        misses.increment();
+        return entries.putIfAbsent(key, converter.convertUncached(source));
+    }
+
+    private static final class Key {
+        private final NameConverter converter;
+        private final String source;
+
+        private Key(NameConverter converter, String source) {
+            this.converter = converter;
+            this.source = source;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(converter) + source.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return converter == other.converter && source.equals(other.source);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.codepoetics.navn;
+
+import java.util.function.BiFunction;
+
+public interface FormattingOption extends BiFunction<String, Long, String> {
+
+    static FormattingOption fuse(FormattingOption...options) {
+        if (options.length == 1) {
+            return options[0];
+        }
+
+        CaseFormattingOption[] caseOptions = new CaseFormattingOption[options.length];
+        for (int i = 0; i < options.length; i++) {
+            if (!(options[i] instanceof CaseFormattingOption)) {
+                FormattingOption[] chain = options.clone();
+                return (s, position) -> {
+                    String result = s;
+                    for (FormattingOption option : chain) {
+                        result = option.apply(result, position);
+                    }
+                    return result;
+                };
+            }
+            caseOptions[i] = (CaseFormattingOption) options[i];
+        }
+        return new FusedFormattingOption(caseOptions);
+    }
+}
@@ -0,0 +1,77 @@
+package com.codepoetics.navn;
+
+import java.util.Locale;
+
+public enum FormattingOptions implements CaseFormattingOption {
+    LOWERCASE() {
+        @Override
+        String apply(String s, long position, CaseMapping mapping) {
+            return mapping.toLowerCase(s);
+        }
+
+        @Override
+        public CaseMode caseMode(CaseMode current, CharSequence source, int start, int end, int position) {
+            return CaseMode.LOWERCASE;
+        }
+    },
+    UPPERCASE() {
+        @Override
+        String apply(String s, long position, CaseMapping mapping) {
+            return mapping.toUpperCase(s);
+        }
+
+        @Override
+        public CaseMode caseMode(CaseMode current, CharSequence source, int start, int end, int position) {
+            return CaseMode.UPPERCASE;
+        }
+    },
+    CAPITALISE_ALL() {
+        @Override
+        String apply(String s, long position, CaseMapping mapping) {
+            return mapping.capitalise(s);
+        }
+
+        @Override
+        public CaseMode caseMode(CaseMode current, CharSequence source, int start, int end, int position) {
+            if (start == end || current.isAllUpperCase(source, start, end)) {
+                return current;
+            }
+            return CaseMode.CAPITALISED;
+        }
+    },
+    CAPITALISE_ALL_BUT_FIRST() {
+        @Override
+        String apply(String s, long position, CaseMapping mapping) {
+            if (position == 0) {
+                return mapping.toLowerCaseUnlessAllUpperCase(s);
+            }
+            return mapping.capitalise(s);
+        }
+
+        @Override
+        public CaseMode caseMode(CaseMode current, CharSequence source, int start, int end, int position) {
+            if (current.isAllUpperCase(source, start, end)) {
+                return current;
+            }
+            if (position == 0) {
+                return CaseMode.LOWERCASE;
+            }
+            return CAPITALISE_ALL.caseMode(current, source, start, end, position);
+        }
+    };
+
+    abstract String apply(String s, long position, CaseMapping mapping);
+
+    @Override
+    public String apply(String s, Long position) {
+        return apply(s, position, CaseMapping.ROOT);
+    }
+
+    public FormattingOption withLocale(Locale locale) {
+        if (Locale.ROOT.equals(locale)) {
+            return this;
+        }
+        CaseMapping mapping = CaseMapping.of(locale);
+        return (s, position) -> apply(s, position, mapping);
+    }
+}
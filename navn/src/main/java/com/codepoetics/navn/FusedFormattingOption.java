@@ -0,0 +1,28 @@
+package com.codepoetics.navn;
+
+final class FusedFormattingOption implements CaseFormattingOption {
+
+    private final CaseFormattingOption[] options;
+
+    FusedFormattingOption(CaseFormattingOption[] options) {
+        this.options = options;
+    }
+
+    @Override
+    public CaseMode caseMode(CaseMode current, CharSequence source, int start, int end, int position) {
+        CaseMode mode = current;
+        for (CaseFormattingOption option : options) {
+            mode = option.caseMode(mode, source, start, end, position);
+        }
+        return mode;
+    }
+
+    @Override
+    public String apply(String part, Long position) {
+        String result = part;
+        for (CaseFormattingOption option : options) {
+            result = option.apply(result, position);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,14 @@
+package com.codepoetics.navn;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateNames {
+    NameStyle value() default NameStyle.UNDERSCORED;
+
+    String className() default "";
+}
@@ -0,0 +1,434 @@
+package com.codepoetics.navn;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public final class IdentifierRewriter {
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    private static final int DEFAULT_MAXIMUM_TOKEN_LENGTH = 1024;
+    private static final int DEFAULT_MAXIMUM_KEY_LENGTH = 1024;
+
+    public static IdentifierRewriter jsonKeys(NameConverter converter) {
+        return jsonKeys(DEFAULT_MAXIMUM_KEY_LENGTH, converter);
+    }
+
+    public static IdentifierRewriter jsonKeys(int maximumKeyLength, NameConverter converter) {
+        if (maximumKeyLength < 1) {
+            throw new IllegalArgumentException("Maximum key length must be at least 1, was " + maximumKeyLength);
+        }
+        return new IdentifierRewriter(() -> new JsonKeys(maximumKeyLength, converter), DEFAULT_BUFFER_SIZE, 0);
+    }
+
+    public static IdentifierRewriter csvHeader(NameConverter converter) {
+        return csvHeader(',', converter);
+    }
+
+    public static IdentifierRewriter csvHeader(char delimiter, NameConverter converter) {
+        return new IdentifierRewriter(() -> new CsvHeader(delimiter, converter), DEFAULT_BUFFER_SIZE, 0);
+    }
+
+    public static IdentifierRewriter tokens(Pattern tokenPattern, NameConverter converter) {
+        return tokens(tokenPattern, DEFAULT_MAXIMUM_TOKEN_LENGTH, converter);
+    }
+
+    public static IdentifierRewriter tokens(Pattern tokenPattern, int maximumTokenLength, NameConverter converter) {
+        if (maximumTokenLength < 1) {
+            throw new IllegalArgumentException("Maximum token length must be at least 1, was " + maximumTokenLength);
+        }
+        return new IdentifierRewriter(() -> new Tokens(tokenPattern, maximumTokenLength, converter),
+                Math.max(DEFAULT_BUFFER_SIZE, maximumTokenLength * 4), maximumTokenLength);
+    }
+
+    private final Supplier<Rewriting> rewritings;
+    private final int bufferSize;
+    private final int maximumTokenLength;
+
+    private IdentifierRewriter(Supplier<Rewriting> rewritings, int bufferSize, int maximumTokenLength) {
+        this.rewritings = rewritings;
+        this.bufferSize = bufferSize;
+        this.maximumTokenLength = maximumTokenLength;
+    }
+
+    public IdentifierRewriter withBufferSize(int bufferSize) {
+        if (bufferSize <= maximumTokenLength * 2) {
+            throw new IllegalArgumentException("Buffer size " + bufferSize
+                    + " must be more than twice the maximum token length " + maximumTokenLength);
+        }
+        return new IdentifierRewriter(rewritings, bufferSize, maximumTokenLength);
+    }
+
+    public void rewrite(Reader source, Writer target) throws IOException {
+        Rewriting rewriting = rewritings.get();
+        char[] buffer = new char[bufferSize];
+        int length = 0;
+        boolean endOfInput = false;
+
+        while (!endOfInput) {
+            int read = source.read(buffer, length, buffer.length - length);
+            endOfInput = read < 0;
+            if (!endOfInput) {
+                length += read;
+            }
+            int consumed = rewriting.process(buffer, length, endOfInput, target);
+            System.arraycopy(buffer, consumed, buffer, 0, length - consumed);
+            length -= consumed;
+        }
+        target.flush();
+    }
+
+    public void rewrite(ReadableByteChannel source, WritableByteChannel target) throws IOException {
+        Reader reader = Channels.newReader(source, StandardCharsets.UTF_8.newDecoder(), -1);
+        Writer writer = Channels.newWriter(target, StandardCharsets.UTF_8.newEncoder(), -1);
+        rewrite(reader, writer);
+    }
+
+    public void rewrite(Path source, Path target) throws IOException {
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ);
+             Writer writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+            rewrite(new MappedFileReader(channel), writer);
+        }
+    }
+
+    private interface Rewriting {
+        int process(char[] buffer, int length, boolean endOfInput, Writer target) throws IOException;
+    }
+
+    private static final class JsonKeys implements Rewriting {
+        private static final int STRUCTURE = 0;
+        private static final int IN_STRING = 1;
+        private static final int IN_STRING_ESCAPE = 2;
+        private static final int IN_KEY = 3;
+        private static final int IN_KEY_ESCAPE = 4;
+
+        private final int maximumKeyLength;
+        private final NameConverter converter;
+        private final StringBuilder key = new StringBuilder();
+        private boolean keyHasEscape;
+        private int state = STRUCTURE;
+        private boolean expectingKey;
+        private boolean[] objects = new boolean[16];
+        private int depth;
+
+        private JsonKeys(int maximumKeyLength, NameConverter converter) {
+            this.maximumKeyLength = maximumKeyLength;
+            this.converter = converter;
+        }
+
+        @Override
+        public int process(char[] buffer, int length, boolean endOfInput, Writer target) throws IOException {
+            int copyFrom = 0;
+            for (int i = 0; i < length; i++) {
+                char c = buffer[i];
+                switch (state) {
+                    case STRUCTURE:
+                        if (c == '"' && expectingKey) {
+                            target.write(buffer, copyFrom, i + 1 - copyFrom);
+                            copyFrom = i + 1;
+                            key.setLength(0);
+                            keyHasEscape = false;
+                            state = IN_KEY;
+                        } else {
+                            readStructure(c);
+                        }
+                        break;
+                    case IN_STRING:
+                        if (c == '\\') {
+                            state = IN_STRING_ESCAPE;
+                        } else if (c == '"') {
+                            state = STRUCTURE;
+                        }
+                        break;
+                    case IN_STRING_ESCAPE:
+                        state = IN_STRING;
+                        break;
+                    case IN_KEY:
+                        if (c == '"') {
+                            writeKey(target);
+                            copyFrom = i;
+                            expectingKey = false;
+                            state = STRUCTURE;
+                        } else if (c == '\\') {
+                            keyHasEscape = true;
+                            appendToKey(c, IN_KEY_ESCAPE, target);
+                            copyFrom = i + 1;
+                        } else {
+                            appendToKey(c, IN_KEY, target);
+                            copyFrom = i + 1;
+                        }
+                        break;
+                    default:
+                        appendToKey(c, IN_KEY, target);
+                        copyFrom = i + 1;
+                }
+            }
+            target.write(buffer, copyFrom, length - copyFrom);
+            if (endOfInput && state == IN_KEY) {
+                target.append(key);
+            }
+            return length;
+        }
+
+        private void appendToKey(char c, int next, Writer target) throws IOException {
+            key.append(c);
+            if (key.length() <= maximumKeyLength) {
+                state = next;
+                return;
+            }
+            // Too long to convert: write out what was buffered unchanged and let the rest pass through as a plain string.
+            target.append(key);
+            key.setLength(0);
+            expectingKey = false;
+            state = next == IN_KEY_ESCAPE ? IN_STRING_ESCAPE : IN_STRING;
+        }
+
+        private void readStructure(char c) {
+            switch (c) {
+                case '{':
+                    push(true);
+                    break;
+                case '[':
+                    push(false);
+                    break;
+                case '}':
+                case ']':
+                    depth = Math.max(0, depth - 1);
+                    expectingKey = false;
+                    break;
+                case ',':
+                    expectingKey = depth > 0 && objects[depth - 1];
+                    break;
+                case ':':
+                    expectingKey = false;
+                    break;
+                case '"':
+                    state = IN_STRING;
+                    break;
+                default:
+            }
+        }
+
+        private void push(boolean isObject) {
+            if (depth == objects.length) {
+                objects = Arrays.copyOf(objects, depth * 2);
+            }
+            objects[depth++] = isObject;
+            expectingKey = isObject;
+        }
+
+        private void writeKey(Writer target) throws IOException {
+            if (keyHasEscape) {
+                target.append(key);
+            } else {
+                writeEscaped(converter.convert(key.toString()), target);
+            }
+        }
+
+        private static void writeEscaped(String converted, Writer target) throws IOException {
+            for (int i = 0; i < converted.length(); i++) {
+                char c = converted.charAt(i);
+                if (c == '"' || c == '\\') {
+                    target.write('\\');
+                    target.write(c);
+                } else if (c < ' ') {
+                    target.write(String.format("\\u%04x", (int) c));
+                } else {
+                    target.write(c);
+                }
+            }
+        }
+    }
+
+    private static final class CsvHeader implements Rewriting {
+        private static final int START_OF_CELL = 0;
+        private static final int UNQUOTED = 1;
+        private static final int QUOTED = 2;
+        private static final int QUOTE_IN_QUOTED = 3;
+
+        private final char delimiter;
+        private final NameConverter converter;
+        private final StringBuilder cell = new StringBuilder();
+        private int state = START_OF_CELL;
+        private boolean quoted;
+        private boolean inHeader = true;
+        private boolean cellsWritten;
+
+        private CsvHeader(char delimiter, NameConverter converter) {
+            this.delimiter = delimiter;
+            this.converter = converter;
+        }
+
+        @Override
+        public int process(char[] buffer, int length, boolean endOfInput, Writer target) throws IOException {
+            int i = 0;
+            while (inHeader && i < length) {
+                readHeader(buffer[i++], target);
+            }
+            if (inHeader && endOfInput && (state != START_OF_CELL || cellsWritten)) {
+                writeCell(target);
+            }
+            target.write(buffer, i, length - i);
+            return length;
+        }
+
+        private void readHeader(char c, Writer target) throws IOException {
+            if (state == QUOTED) {
+                if (c == '"') {
+                    state = QUOTE_IN_QUOTED;
+                } else {
+                    cell.append(c);
+                }
+                return;
+            }
+            if (state == QUOTE_IN_QUOTED && c == '"') {
+                cell.append(c);
+                state = QUOTED;
+                return;
+            }
+            if (state == START_OF_CELL && c == '"') {
+                quoted = true;
+                state = QUOTED;
+                return;
+            }
+
+            if (c == delimiter) {
+                writeCell(target);
+                target.write(c);
+            } else if (c == '\r' || c == '\n') {
+                writeCell(target);
+                target.write(c);
+                inHeader = false;
+            } else {
+                cell.append(c);
+                state = UNQUOTED;
+            }
+        }
+
+        private void writeCell(Writer target) throws IOException {
+            String converted = converter.convert(cell.toString());
+            if (quoted || needsQuoting(converted)) {
+                target.write('"');
+                target.write(converted.replace("\"", "\"\""));
+                target.write('"');
+            } else {
+                target.write(converted);
+            }
+            cell.setLength(0);
+            quoted = false;
+            cellsWritten = true;
+            state = START_OF_CELL;
+        }
+
+        private boolean needsQuoting(String converted) {
+            for (int i = 0; i < converted.length(); i++) {
+                char c = converted.charAt(i);
+                if (c == delimiter || c == '"' || c == '\r' || c == '\n') {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class Tokens implements Rewriting {
+        private final Pattern pattern;
+        private final int maximumTokenLength;
+        private final NameConverter converter;
+        private int retained;
+
+        private Tokens(Pattern pattern, int maximumTokenLength, NameConverter converter) {
+            this.pattern = pattern;
+            this.maximumTokenLength = maximumTokenLength;
+            this.converter = converter;
+        }
+
+        @Override
+        public int process(char[] buffer, int length, boolean endOfInput, Writer target) throws IOException {
+            // The first retained chars were written by the previous call and are kept so that \b, ^ and lookbehinds see them.
+            int safeLimit = endOfInput ? length : Math.max(retained, length - maximumTokenLength);
+            Matcher matcher = pattern.matcher(CharBuffer.wrap(buffer, 0, length))
+                    .useTransparentBounds(true)
+                    .useAnchoringBounds(false)
+                    .region(retained, length);
+            int position = retained;
+            while (matcher.find() && (endOfInput || matcher.start() < safeLimit)) {
+                target.write(buffer, position, matcher.start() - position);
+                target.write(converter.convert(matcher.group()));
+                position = matcher.end();
+            }
+            int written = Math.max(position, safeLimit);
+            target.write(buffer, position, written - position);
+            retained = Math.min(written, maximumTokenLength);
+            return written - retained;
+        }
+    }
+
+    private static final class MappedFileReader extends Reader {
+        private static final long WINDOW_SIZE = 64L << 20;
+
+        private final FileChannel channel;
+        private final long size;
+        private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder();
+        private MappedByteBuffer window;
+        private long windowStart;
+        private boolean finished;
+
+        private MappedFileReader(FileChannel channel) throws IOException {
+            this.channel = channel;
+            this.size = channel.size();
+            map(0);
+        }
+
+        private void map(long start) throws IOException {
+            windowStart = start;
+            window = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(WINDOW_SIZE, size - start));
+        }
+
+        @Override
+        public int read(char[] chars, int offset, int length) throws IOException {
+            if (finished) {
+                return -1;
+            }
+            CharBuffer target = CharBuffer.wrap(chars, offset, length);
+            while (target.hasRemaining()) {
+                boolean lastWindow = windowStart + window.limit() >= size;
+                CoderResult result = decoder.decode(window, target, lastWindow);
+                if (result.isError()) {
+                    result.throwException();
+                }
+                if (result.isOverflow()) {
+                    break;
+                }
+                if (lastWindow) {
+                    decoder.flush(target);
+                    finished = true;
+                    break;
+                }
+                map(windowStart + window.position());
+            }
+            int read = target.position() - offset;
+            return read == 0 && finished ? -1 : read;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
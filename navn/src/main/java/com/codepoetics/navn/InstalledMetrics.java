@@ -0,0 +1,9 @@
+package com.codepoetics.navn;
+
+final class InstalledMetrics {
+
+    static volatile NavnMetrics current = NavnMetrics.NONE;
+
+    private InstalledMetrics() {
+    }
+}
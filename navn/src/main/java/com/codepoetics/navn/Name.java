@@ -0,0 +1,345 @@
+package com.codepoetics.navn;
+
+import com.codepoetics.protonpack.Streamable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public final class Name {
+
+    private static final FormattingOption CAMEL_CASE_LOWERCASING_ACRONYMS =
+            FormattingOption.fuse(FormattingOptions.LOWERCASE, FormattingOptions.CAPITALISE_ALL_BUT_FIRST);
+    private static final FormattingOption TITLE_CASE_LOWERCASING_ACRONYMS =
+            FormattingOption.fuse(FormattingOptions.LOWERCASE, FormattingOptions.CAPITALISE_ALL);
+
+    public static Name empty() {
+        return new Name(Parts.EMPTY, 0);
+    }
+
+    public static Name of(String source) {
+        return ofParts(new SourceScanner().scan(source).parts(source));
+    }
+
+    public static String canonicalKey(String source) {
+        return of(source).canonicalKey();
+    }
+
+    public static long canonicalHash(CharSequence source) {
+        return CanonicalKey.hash(source);
+    }
+
+    public static Name of(String source, AcronymDictionary acronyms) {
+        return ofParts(new SourceScanner().scan(source).parts(source, acronyms));
+    }
+
+    public static Name of(String source, char separator) {
+        return of(source, Splitter.on(separator));
+    }
+
+    public static Name of(String source, String regex) {
+        return of(source, Splitter.onPattern(regex));
+    }
+
+    public static Name of(String source, Splitter splitter) {
+        return ofParts(splitter.parts(source));
+    }
+
+    public static Name of(String source, Function<String, String[]> reader) {
+        return ofTrimmed(source, reader);
+    }
+
+    private static Name ofTrimmed(String trimmed, Function<String, String[]> reader) {
+        return of(reader.apply(trimmed));
+    }
+
+    public static Name of(String[] parts) {
+        return new Name(Parts.of(parts), parts.length);
+    }
+
+    public static Name of(Collection<String> parts) {
+        return of(parts.toArray(new String[parts.size()]));
+    }
+
+    public static Name of(Iterable<String> parts) {
+        return of(Streamable.of(parts));
+    }
+
+    public static Name of(Streamable<String> parts) {
+        return of(parts.toArray(String[]::new));
+    }
+
+    static Name view(Parts parts) {
+        return new Name(parts, parts.size());
+    }
+
+    private static Name ofParts(Parts parts) {
+        NavnMetrics.installed().partsRead(parts.size());
+        return new Name(parts, parts.size());
+    }
+
+    private final long length;
+    private final Parts parts;
+    private int hashCode;
+
+    private Name(Parts parts, long length) {
+        this.parts = parts;
+        this.length = length;
+    }
+
+    Parts parts() {
+        return parts;
+    }
+
+    public long length() {
+        return length;
+    }
+
+    public String[] toArray() {
+        return parts.toArray();
+    }
+
+    public List<String> toList() {
+        return new ArrayList<>(Arrays.asList(toArray()));
+    }
+
+    public String format(Collector<CharSequence, ?, String> collector, FormattingOption...options) {
+        FormattingOption process = FormattingOption.fuse(options);
+        Parts materialised = parts.materialise();
+        return IntStream.range(0, materialised.size())
+                .mapToObj(i -> process.apply(materialised.get(i), (long) i))
+                .collect(collector);
+    }
+
+    public String toSeparated(FormattingOption...options) {
+        return toSeparated(" ", options);
+    }
+
+    public String toSeparated(String separator, FormattingOption...options) {
+        return formatWith(separator, FormattingOption.fuse(options));
+    }
+
+    private String formatWith(String separator, FormattingOption option) {
+        Parts materialised = parts.materialise();
+        StringBuilder target = new StringBuilder(formattedLength(materialised, separator));
+        return appendParts(target, materialised, separator, option).toString();
+    }
+
+    public StringBuilder formatTo(StringBuilder target, CharSequence separator, FormattingOption...options) {
+        return formatWith(target, separator, FormattingOption.fuse(options));
+    }
+
+    private StringBuilder formatWith(StringBuilder target, CharSequence separator, FormattingOption option) {
+        return appendParts(target, parts.materialise(), separator, option);
+    }
+
+    public Appendable formatTo(Appendable target, CharSequence separator, FormattingOption...options) throws IOException {
+        PartFormatter.format(target, parts.materialise(), separator, FormattingOption.fuse(options));
+        return target;
+    }
+
+    private static StringBuilder appendParts(StringBuilder target, Parts materialised, CharSequence separator, FormattingOption option) {
+        try {
+            PartFormatter.format(target, materialised, separator, option);
+            return target;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int formattedLength(Parts materialised, CharSequence separator) {
+        int length = Math.max(0, materialised.size() - 1) * separator.length();
+        for (int i = 0; i < materialised.size(); i++) {
+            length += materialised.length(i);
+        }
+        return length;
+    }
+
+    public String toUnderscored() {
+        return formatWith("_", FormattingOptions.LOWERCASE);
+    }
+
+    public StringBuilder toUnderscored(StringBuilder target) {
+        return formatWith(target, "_", FormattingOptions.LOWERCASE);
+    }
+
+    public String toUnderscored(FormattingOption...options) {
+        return toSeparated("_", options);
+    }
+
+    public String toHyphenated() {
+        return formatWith("-", FormattingOptions.LOWERCASE);
+    }
+
+    public StringBuilder toHyphenated(StringBuilder target) {
+        return formatWith(target, "-", FormattingOptions.LOWERCASE);
+    }
+
+    public String toHyphenated(FormattingOption...options) {
+        return toSeparated("-", options);
+    }
+
+    public String toConstant() {
+        return formatWith("_", FormattingOptions.UPPERCASE);
+    }
+
+    public StringBuilder toConstant(StringBuilder target) {
+        return formatWith(target, "_", FormattingOptions.UPPERCASE);
+    }
+
+    public String toCamelCase() {
+        return toCamelCase(true);
+    }
+
+    public String toCamelCase(boolean uppercaseAcronyms) {
+        return formatWith("", uppercaseAcronyms ? FormattingOptions.CAPITALISE_ALL_BUT_FIRST : CAMEL_CASE_LOWERCASING_ACRONYMS);
+    }
+
+    public StringBuilder toCamelCase(StringBuilder target) {
+        return toCamelCase(target, true);
+    }
+
+    public StringBuilder toCamelCase(StringBuilder target, boolean uppercaseAcronyms) {
+        return formatWith(target, "", uppercaseAcronyms ? FormattingOptions.CAPITALISE_ALL_BUT_FIRST : CAMEL_CASE_LOWERCASING_ACRONYMS);
+    }
+
+    public String toTitleCase() {
+        return toTitleCase(true);
+    }
+
+    public String toTitleCase(boolean uppercaseAcronyms) {
+        return formatWith("", uppercaseAcronyms ? FormattingOptions.CAPITALISE_ALL : TITLE_CASE_LOWERCASING_ACRONYMS);
+    }
+
+    public StringBuilder toTitleCase(StringBuilder target) {
+        return toTitleCase(target, true);
+    }
+
+    public StringBuilder toTitleCase(StringBuilder target, boolean uppercaseAcronyms) {
+        return formatWith(target, "", uppercaseAcronyms ? FormattingOptions.CAPITALISE_ALL : TITLE_CASE_LOWERCASING_ACRONYMS);
+    }
+
+    public String toAddress() {
+        return formatWith(" ", FormattingOptions.CAPITALISE_ALL);
+    }
+
+    public StringBuilder toAddress(StringBuilder target) {
+        return formatWith(target, " ", FormattingOptions.CAPITALISE_ALL);
+    }
+
+    public Name concat(Name next) {
+        return new Name(parts.concat(next.parts), length + next.length);
+    }
+
+    public Name withPrefix(String prefix) {
+        return withPrefix(Name.of(prefix));
+    }
+
+    public Name withPrefix(Name prefix) {
+        return prefix.concat(this);
+    }
+
+    public Name withSuffix(String suffix) {
+        return withSuffix(Name.of(suffix));
+    }
+
+    public Name withSuffix(Name suffix) {
+        return concat(suffix);
+    }
+
+    public Name transform(UnaryOperator<Stream<String>> transformer) {
+        return of(parts.streamable().transform(transformer));
+    }
+
+    public Name map(UnaryOperator<String> f) {
+        return new Name(Parts.of(parts.streamable().map(f)), length);
+    }
+
+    public Name filter(Predicate<String> p) {
+        return transform(s -> s.filter(p));
+    }
+
+    public <T> T collect(Collector<String, ?, T> collector) {
+        return parts.streamable().collect(collector);
+    }
+
+    public Name uppercasing(String... termsToUppercase) {
+        return uppercasingAny(termsToUppercase.clone());
+    }
+
+    public Name uppercasing(Collection<String> termsToUppercase) {
+        return uppercasingAny(termsToUppercase.toArray(new String[termsToUppercase.size()]));
+    }
+
+    private Name uppercasingAny(String[] terms) {
+        // A few ad-hoc terms are cheaper to scan than to build into a trie; reuse an AcronymDictionary for many names.
+        return map(part -> matchesAny(part, terms) ? CaseMapping.ROOT.toUpperCase(part) : part);
+    }
+
+    private static boolean matchesAny(String part, String[] terms) {
+        for (String term : terms) {
+            if (Ascii.equalsIgnoreCase(part, term)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Name uppercasing(AcronymDictionary acronyms) {
+        return map(part -> acronyms.contains(part) ? CaseMapping.ROOT.toUpperCase(part) : part);
+    }
+
+    public Name withoutFirst() {
+        return new Name(parts.slice(Math.min(1, parts.size()), parts.size()), Math.max(0, length - 1));
+    }
+
+    public Name withoutLast() {
+        return new Name(parts.slice(0, Math.max(0, parts.size() - 1)), Math.max(length - 1, 0));
+    }
+
+    public String canonicalKey() {
+        return CanonicalKey.of(parts.materialise());
+    }
+
+    public long canonicalHash() {
+        return CanonicalKey.hashOfKey(canonicalKey());
+    }
+
+    public Name intern() {
+        return NamePool.shared().intern(this);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = hashCode;
+        if (result == 0) {
+            result = parts.materialise().contentHashCode();
+            hashCode = result;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final Name other = (Name) obj;
+        return hashCode() == other.hashCode() && parts.materialise().contentEquals(other.parts.materialise());
+    }
+
+    @Override
+    public String toString() {
+        return format(Collectors.joining(",","[","]"));
+    }
+}
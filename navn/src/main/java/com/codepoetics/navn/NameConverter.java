@@ -0,0 +1,241 @@
+package com.codepoetics.navn;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+public final class NameConverter implements Function<String, String> {
+
+    public static NameConverter toSeparated(String separator, FormattingOption...options) {
+        return new NameConverter(null, separator, FormattingOption.fuse(options), AcronymDictionary.empty(), AcronymDictionary.empty(), null);
+    }
+
+    public static NameConverter toUnderscored() {
+        return toSeparated("_", FormattingOptions.LOWERCASE);
+    }
+
+    public static NameConverter toHyphenated() {
+        return toSeparated("-", FormattingOptions.LOWERCASE);
+    }
+
+    public static NameConverter toConstant() {
+        return toSeparated("_", FormattingOptions.UPPERCASE);
+    }
+
+    public static NameConverter toCamelCase() {
+        return toCamelCase(true);
+    }
+
+    public static NameConverter toCamelCase(boolean uppercaseAcronyms) {
+        return uppercaseAcronyms
+                ? toSeparated("", FormattingOptions.CAPITALISE_ALL_BUT_FIRST)
+                : toSeparated("", FormattingOptions.LOWERCASE, FormattingOptions.CAPITALISE_ALL_BUT_FIRST);
+    }
+
+    public static NameConverter toTitleCase() {
+        return toTitleCase(true);
+    }
+
+    public static NameConverter toTitleCase(boolean uppercaseAcronyms) {
+        return uppercaseAcronyms
+                ? toSeparated("", FormattingOptions.CAPITALISE_ALL)
+                : toSeparated("", FormattingOptions.LOWERCASE, FormattingOptions.CAPITALISE_ALL);
+    }
+
+    public static NameConverter toAddress() {
+        return toSeparated(" ", FormattingOptions.CAPITALISE_ALL);
+    }
+
+    private final Function<CharSequence, Parts> reader;
+    private final String separator;
+    private final FormattingOption option;
+    private final AcronymDictionary acronyms;
+    private final AcronymDictionary splitting;
+    private final ConversionCache cache;
+
+    private NameConverter(Function<CharSequence, Parts> reader, String separator, FormattingOption option, AcronymDictionary acronyms, AcronymDictionary splitting, ConversionCache cache) {
+        this.reader = reader;
+        this.separator = separator;
+        this.option = option;
+        this.acronyms = acronyms;
+        this.splitting = splitting;
+        this.cache = cache;
+    }
+
+    public NameConverter from(SourceFormat format) {
+        return from((Function<String, String[]>) format);
+    }
+
+    public NameConverter from(char separator) {
+        return from(Splitter.on(separator));
+    }
+
+    public NameConverter from(String regex) {
+        return from(Splitter.onPattern(regex));
+    }
+
+    public NameConverter from(Splitter splitter) {
+        return new NameConverter(splitter::parts, separator, option, acronyms, splitting, cache);
+    }
+
+    public NameConverter from(Function<String, String[]> reader) {
+        return new NameConverter(source -> Parts.of(reader.apply(source.toString())), separator, option, acronyms, splitting, cache);
+    }
+
+    public NameConverter uppercasing(String...termsToUppercase) {
+        return uppercasing(Arrays.asList(termsToUppercase));
+    }
+
+    public NameConverter uppercasing(Collection<String> termsToUppercase) {
+        return uppercasing(AcronymDictionary.of(termsToUppercase));
+    }
+
+    public NameConverter uppercasing(AcronymDictionary acronyms) {
+        return new NameConverter(reader, separator, option, acronyms, splitting, cache);
+    }
+
+    public NameConverter splittingOn(AcronymDictionary acronyms) {
+        return new NameConverter(reader, separator, option, this.acronyms, acronyms, cache);
+    }
+
+    public NameConverter cached(int maximumSize) {
+        return cached(ConversionCache.withMaximumSize(maximumSize));
+    }
+
+    public NameConverter cached(ConversionCache cache) {
+        return new NameConverter(reader, separator, option, acronyms, splitting, cache);
+    }
+
+    public String convert(String source) {
+        return convertUsing(source, null);
+    }
+
+    public StringBuilder convert(String source, StringBuilder target) {
+        NavnMetrics metrics = NavnMetrics.installed();
+        if (metrics == NavnMetrics.NONE) {
+            return appendUnmeasured(source, target);
+        }
+        int start = target.length();
+        long started = System.nanoTime();
+        appendUnmeasured(source, target);
+        long elapsed = System.nanoTime() - started;
+        metrics.converted(source, target.substring(start), elapsed);
+        return target;
+    }
+
+    private StringBuilder appendUnmeasured(String source, StringBuilder target) {
+        return cache == null ? format(target, read(source)) : target.append(cache.convert(this, source));
+    }
+
+    public byte[] convert(byte[] source) {
+        Utf8.Output target = Utf8.Output.growable(source.length + 16);
+        convertUtf8(ByteBuffer.wrap(source), target);
+        return target.toByteArray();
+    }
+
+    public ByteBuffer convert(ByteBuffer source, ByteBuffer target) {
+        int start = target.position();
+        Utf8.Output converted = Utf8.Output.into(target);
+        convertUtf8(source, converted);
+        if (converted.overflowed()) {
+            int needed = converted.length();
+            target.position(start);
+            throw new IllegalArgumentException("Target buffer has " + target.remaining()
+                    + " bytes remaining but the converted name needs " + needed);
+        }
+        source.position(source.limit());
+        return target;
+    }
+
+    public String[] convertAll(String[] sources) {
+        return convertAll(sources, new String[sources.length]);
+    }
+
+    public String[] convertAll(String[] sources, String[] results) {
+        if (results.length < sources.length) {
+            throw new IllegalArgumentException("Results array has length " + results.length
+                    + " but there are " + sources.length + " sources");
+        }
+        BatchConversion.convert(this, sources, results);
+        return results;
+    }
+
+    public List<String> convertAll(List<String> sources) {
+        return Arrays.asList(convertAll(sources.toArray(new String[sources.size()])));
+    }
+
+    public Stream<String> convertAll(Stream<String> sources) {
+        return Arrays.stream(convertAll(sources.toArray(String[]::new)));
+    }
+
+    String convertUsing(String source, StringBuilder scratch) {
+        NavnMetrics metrics = NavnMetrics.installed();
+        if (metrics == NavnMetrics.NONE) {
+            return convertUnmeasured(source, scratch);
+        }
+        long started = System.nanoTime();
+        String result = convertUnmeasured(source, scratch);
+        metrics.converted(source, result, System.nanoTime() - started);
+        return result;
+    }
+
+    private String convertUnmeasured(String source, StringBuilder scratch) {
+        if (cache != null) {
+            return cache.convert(this, source);
+        }
+        if (scratch == null) {
+            return convertUncached(source);
+        }
+        scratch.setLength(0);
+        return format(scratch, read(source)).toString();
+    }
+
+    String convertUncached(String source) {
+        Parts parts = read(source);
+        StringBuilder target = new StringBuilder(source.length() + parts.size() * separator.length());
+        return format(target, parts).toString();
+    }
+
+    private void convertUtf8(ByteBuffer source, Utf8.Output target) {
+        if (!Utf8.isAscii(source)) {
+            target.append(convert(StandardCharsets.UTF_8.decode(source.duplicate()).toString()));
+            return;
+        }
+        Utf8.AsciiSequence ascii = new Utf8.AsciiSequence(source);
+        NavnMetrics metrics = NavnMetrics.installed();
+        if (metrics == NavnMetrics.NONE) {
+            format(target, read(ascii));
+            return;
+        }
+        long started = System.nanoTime();
+        format(target, read(ascii));
+        long elapsed = System.nanoTime() - started;
+        metrics.converted(ascii.toString(), target.toString(), elapsed);
+    }
+
+    private Parts read(CharSequence source) {
+        Parts parts = reader == null ? new SourceScanner().scan(source).parts(source, splitting) : reader.apply(source);
+        NavnMetrics.installed().partsRead(parts.size());
+        return parts;
+    }
+
+    @Override
+    public String apply(String source) {
+        return convert(source);
+    }
+
+    private <A extends Appendable> A format(A target, Parts parts) {
+        try {
+            PartFormatter.format(target, parts, separator, option, acronyms);
+            return target;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.codepoetics.navn;
+
+public final class NameIndex<V> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    public static <V> NameIndex<V> create() {
+        return new NameIndex<>();
+    }
+
+    private long[] hashes = new long[INITIAL_CAPACITY];
+    private String[] keys = new String[INITIAL_CAPACITY];
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    private int size;
+
+    private NameIndex() {
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public V put(String name, V value) {
+        return put(Name.of(name), value);
+    }
+
+    public V put(Name name, V value) {
+        String key = name.canonicalKey();
+        long hash = CanonicalKey.hashOfKey(key);
+        int slot = slotOf(hash, key);
+        if (keys[slot] != null) {
+            V previous = valueAt(slot);
+            values[slot] = value;
+            return previous;
+        }
+        hashes[slot] = hash;
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size * 2 > keys.length) {
+            resize();
+        }
+        return null;
+    }
+
+    public V get(CharSequence name) {
+        long hash = CanonicalKey.hash(name);
+        int mask = keys.length - 1;
+        for (int slot = index(hash, mask); keys[slot] != null; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash && CanonicalKey.matches(name, keys[slot])) {
+                return valueAt(slot);
+            }
+        }
+        return null;
+    }
+
+    public V get(Name name) {
+        String key = name.canonicalKey();
+        int slot = slotOf(CanonicalKey.hashOfKey(key), key);
+        return keys[slot] == null ? null : valueAt(slot);
+    }
+
+    public boolean containsKey(CharSequence name) {
+        return get(name) != null;
+    }
+
+    private int slotOf(long hash, String key) {
+        int mask = keys.length - 1;
+        int slot = index(hash, mask);
+        while (keys[slot] != null && (hashes[slot] != hash || !keys[slot].equals(key))) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int index(long hash, int mask) {
+        return (int) (hash ^ hash >>> 32) & mask;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int slot) {
+        return (V) values[slot];
+    }
+
+    private void resize() {
+        long[] oldHashes = hashes;
+        String[] oldKeys = keys;
+        Object[] oldValues = values;
+        int capacity = oldKeys.length * 2;
+        hashes = new long[capacity];
+        keys = new String[capacity];
+        values = new Object[capacity];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int slot = slotOf(oldHashes[i], oldKeys[i]);
+                hashes[slot] = oldHashes[i];
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
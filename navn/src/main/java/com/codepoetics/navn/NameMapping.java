@@ -0,0 +1,51 @@
+package com.codepoetics.navn;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+
+public final class NameMapping {
+
+    public static NameMapping of(NameStyle from, NameStyle to, String...names) {
+        return of(from.converter(), to.converter(), names);
+    }
+
+    public static NameMapping of(NameStyle from, NameStyle to, Collection<String> names) {
+        return of(from, to, names.toArray(new String[names.size()]));
+    }
+
+    public static NameMapping of(NameConverter from, NameConverter to, String...names) {
+        String[] distinct = new LinkedHashSet<>(Arrays.asList(names)).toArray(new String[0]);
+        String[] sources = from.convertAll(distinct);
+        String[] targets = to.convertAll(distinct);
+        return new NameMapping(PerfectHashTable.of(sources, targets), PerfectHashTable.of(targets, sources));
+    }
+
+    private final PerfectHashTable forward;
+    private final PerfectHashTable reverse;
+
+    private NameMapping(PerfectHashTable forward, PerfectHashTable reverse) {
+        this.forward = forward;
+        this.reverse = reverse;
+    }
+
+    public int size() {
+        return forward.size();
+    }
+
+    public String forward(CharSequence name) {
+        return forward.get(name);
+    }
+
+    public String forward(char[] chars, int offset, int length) {
+        return forward.get(chars, offset, length);
+    }
+
+    public String reverse(CharSequence convertedName) {
+        return reverse.get(convertedName);
+    }
+
+    public String reverse(char[] chars, int offset, int length) {
+        return reverse.get(chars, offset, length);
+    }
+}
@@ -0,0 +1,61 @@
+package com.codepoetics.navn;
+
+public final class NamePool {
+
+    private static final NamePool SHARED = withMaximumSize(1 << 16);
+
+    public static NamePool shared() {
+        return SHARED;
+    }
+
+    public static NamePool withMaximumSize(int maximumSize) {
+        return new NamePool(new ClockEvictingMap<>(maximumSize), new ClockEvictingMap<>(maximumSize));
+    }
+
+    private final ClockEvictingMap<Name, Name> names;
+    private final ClockEvictingMap<String, String> parts;
+
+    private NamePool(ClockEvictingMap<Name, Name> names, ClockEvictingMap<String, String> parts) {
+        this.names = names;
+        this.parts = parts;
+    }
+
+    public Name intern(Name name) {
+        Name pooled = names.get(name);
+        if (pooled != null) {
+            return pooled;
+        }
+        String[] canonicalParts = name.toArray();
+        for (int i = 0; i < canonicalParts.length; i++) {
+            canonicalParts[i] = intern(canonicalParts[i]);
+        }
+        Name canonical = Name.of(canonicalParts);
+        return names.putIfAbsent(canonical, canonical);
+    }
+
+    public String intern(String part) {
+        String pooled = parts.get(part);
+        return pooled != null ? pooled : parts.putIfAbsent(part, part);
+    }
+
+    public int maximumSize() {
+        return names.maximumSize();
+    }
+
+    public int nameCount() {
+        return names.size();
+    }
+
+    public int partCount() {
+        return parts.size();
+    }
+
+    public long evictionCount() {
+        return names.evictionCount() + parts.evictionCount();
+    }
+
+    public void clear() {
+        names.clear();
+        parts.clear();
+    }
+}
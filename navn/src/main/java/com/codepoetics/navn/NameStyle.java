@@ -0,0 +1,56 @@
+package com.codepoetics.navn;
+
+public enum NameStyle {
+    UNDERSCORED(NameConverter.toUnderscored()) {
+        @Override
+        public String format(Name name) {
+            return name.toUnderscored();
+        }
+    },
+    HYPHENATED(NameConverter.toHyphenated()) {
+        @Override
+        public String format(Name name) {
+            return name.toHyphenated();
+        }
+    },
+    CONSTANT(NameConverter.toConstant()) {
+        @Override
+        public String format(Name name) {
+            return name.toConstant();
+        }
+    },
+    CAMEL_CASE(NameConverter.toCamelCase()) {
+        @Override
+        public String format(Name name) {
+            return name.toCamelCase();
+        }
+    },
+    TITLE_CASE(NameConverter.toTitleCase()) {
+        @Override
+        public String format(Name name) {
+            return name.toTitleCase();
+        }
+    },
+    ADDRESS(NameConverter.toAddress()) {
+        @Override
+        public String format(Name name) {
+            return name.toAddress();
+        }
+    };
+
+    private final NameConverter converter;
+
+    NameStyle(NameConverter converter) {
+        this.converter = converter;
+    }
+
+    public abstract String format(Name name);
+
+    public NameConverter converter() {
+        return converter;
+    }
+
+    public String convert(String source) {
+        return converter.convert(source);
+    }
+}
@@ -0,0 +1,213 @@
+package com.codepoetics.navn;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public final class NameTable {
+
+    public static NameTable of(String...sources) {
+        return of(Arrays.asList(sources));
+    }
+
+    public static NameTable of(Iterable<String> sources) {
+        Builder builder = builder();
+        for (String source : sources) {
+            builder.add(source);
+        }
+        return builder.build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private final char[] chars;
+    private final CharSequence arena;
+    private final int[] partOffsets;
+    private final int[] nameOffsets;
+    private final int size;
+
+    private NameTable(char[] chars, int[] partOffsets, int[] nameOffsets, int size) {
+        this.chars = chars;
+        this.arena = CharBuffer.wrap(chars);
+        this.partOffsets = partOffsets;
+        this.nameOffsets = nameOffsets;
+        this.size = size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int partCount() {
+        return nameOffsets[size];
+    }
+
+    public int charCount() {
+        return chars.length;
+    }
+
+    public int length(int index) {
+        checkIndex(index);
+        return nameOffsets[index + 1] - nameOffsets[index];
+    }
+
+    public Name get(int index) {
+        return Name.view(parts(index));
+    }
+
+    public Stream<Name> stream() {
+        return IntStream.range(0, size).mapToObj(this::get);
+    }
+
+    public String toUnderscored(int index) {
+        return formatWith(index, "_", FormattingOptions.LOWERCASE);
+    }
+
+    public StringBuilder toUnderscored(int index, StringBuilder target) {
+        return formatWith(index, target, "_", FormattingOptions.LOWERCASE);
+    }
+
+    public String toHyphenated(int index) {
+        return formatWith(index, "-", FormattingOptions.LOWERCASE);
+    }
+
+    public StringBuilder toHyphenated(int index, StringBuilder target) {
+        return formatWith(index, target, "-", FormattingOptions.LOWERCASE);
+    }
+
+    public String toConstant(int index) {
+        return formatWith(index, "_", FormattingOptions.UPPERCASE);
+    }
+
+    public StringBuilder toConstant(int index, StringBuilder target) {
+        return formatWith(index, target, "_", FormattingOptions.UPPERCASE);
+    }
+
+    public String toCamelCase(int index) {
+        return formatWith(index, "", FormattingOptions.CAPITALISE_ALL_BUT_FIRST);
+    }
+
+    public StringBuilder toCamelCase(int index, StringBuilder target) {
+        return formatWith(index, target, "", FormattingOptions.CAPITALISE_ALL_BUT_FIRST);
+    }
+
+    public String toTitleCase(int index) {
+        return formatWith(index, "", FormattingOptions.CAPITALISE_ALL);
+    }
+
+    public StringBuilder toTitleCase(int index, StringBuilder target) {
+        return formatWith(index, target, "", FormattingOptions.CAPITALISE_ALL);
+    }
+
+    public String toAddress(int index) {
+        return formatWith(index, " ", FormattingOptions.CAPITALISE_ALL);
+    }
+
+    public StringBuilder toAddress(int index, StringBuilder target) {
+        return formatWith(index, target, " ", FormattingOptions.CAPITALISE_ALL);
+    }
+
+    private String formatWith(int index, String separator, FormattingOption option) {
+        checkIndex(index);
+        int from = nameOffsets[index];
+        int to = nameOffsets[index + 1];
+        int length = partOffsets[to] - partOffsets[from] + Math.max(0, to - from - 1) * separator.length();
+        return formatWith(index, new StringBuilder(length), separator, option).toString();
+    }
+
+    private StringBuilder formatWith(int index, StringBuilder target, String separator, FormattingOption option) {
+        try {
+            PartFormatter.format(target, parts(index), separator, option);
+            return target;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Parts parts(int index) {
+        checkIndex(index);
+        return Parts.of(arena, partOffsets, nameOffsets[index], nameOffsets[index + 1]);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for NameTable of size " + size);
+        }
+    }
+
+    public static final class Builder {
+
+        private final SourceScanner scanner = new SourceScanner();
+        private char[] chars = new char[256];
+        private int charCount;
+        private int[] partOffsets = new int[32];
+        private int partCount;
+        private int[] nameOffsets = new int[16];
+        private int size;
+
+        private Builder() {
+        }
+
+        public Builder add(String source) {
+            return add(scanner.scan(source).parts(source));
+        }
+
+        public Builder add(Name name) {
+            return add(name.parts());
+        }
+
+        private Builder add(Parts parts) {
+            Parts materialised = parts.materialise();
+            for (int i = 0; i < materialised.size(); i++) {
+                int length = materialised.length(i);
+                chars = ensureCapacity(chars, charCount + length);
+                CharSequence source = materialised.source(i);
+                int start = materialised.start(i);
+                if (source instanceof String) {
+                    ((String) source).getChars(start, start + length, chars, charCount);
+                } else {
+                    for (int j = 0; j < length; j++) {
+                        chars[charCount + j] = source.charAt(start + j);
+                    }
+                }
+                charCount += length;
+                partCount++;
+                partOffsets = ensureCapacity(partOffsets, partCount + 1);
+                partOffsets[partCount] = charCount;
+            }
+            size++;
+            nameOffsets = ensureCapacity(nameOffsets, size + 1);
+            nameOffsets[size] = partCount;
+            return this;
+        }
+
+        public NameTable build() {
+            return new NameTable(
+                    Arrays.copyOf(chars, charCount),
+                    Arrays.copyOf(partOffsets, partCount + 1),
+                    Arrays.copyOf(nameOffsets, size + 1),
+                    size);
+        }
+
+        private static char[] ensureCapacity(char[] array, int required) {
+            return required <= array.length ? array : Arrays.copyOf(array, newLength(array.length, required));
+        }
+
+        private static int[] ensureCapacity(int[] array, int required) {
+            return required <= array.length ? array : Arrays.copyOf(array, newLength(array.length, required));
+        }
+
+        private static int newLength(int length, int required) {
+            if (required < 0) {
+                throw new IllegalStateException("NameTable cannot hold more than " + Integer.MAX_VALUE + " entries");
+            }
+            int grown = length + (length >> 1);
+            return grown < required || grown < 0 ? required : grown;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.codepoetics.navn;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public final class NavnCounters implements NavnMetrics {
+
+    public static final int PART_COUNT_BUCKETS = 17;
+
+    private static final SourceFormat[] FORMATS = SourceFormat.values();
+
+    private final LongAdder[] detections = adders(FORMATS.length + 1);
+    private final LongAdder[] partCounts = adders(PART_COUNT_BUCKETS);
+    private final LongAdder caseSeparatedReads = new LongAdder();
+    private final LongAdder formattings = new LongAdder();
+    private final LongAdder formattingNanos = new LongAdder();
+    private final LongAdder conversions = new LongAdder();
+    private final LongAdder conversionNanos = new LongAdder();
+
+    private static LongAdder[] adders(int count) {
+        LongAdder[] adders = new LongAdder[count];
+        for (int i = 0; i < count; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    @Override
+    public void formatDetected(SourceFormat format) {
+        detections[format == null ? FORMATS.length : format.ordinal()].increment();
+    }
+
+    @Override
+    public void partsRead(int partCount) {
+        partCounts[Math.min(partCount, PART_COUNT_BUCKETS - 1)].increment();
+    }
+
+    @Override
+    public void caseSeparatedRead() {
+        caseSeparatedReads.increment();
+    }
+
+    @Override
+    public void formatted(int partCount, long elapsedNanos) {
+        formattings.increment();
+        formattingNanos.add(elapsedNanos);
+    }
+
+    @Override
+    public void converted(String source, String result, long elapsedNanos) {
+        conversions.increment();
+        conversionNanos.add(elapsedNanos);
+    }
+
+    public long detectionCount(SourceFormat format) {
+        return detections[format.ordinal()].sum();
+    }
+
+    public long undetectedCount() {
+        return detections[FORMATS.length].sum();
+    }
+
+    public long[] partCountHistogram() {
+        long[] histogram = new long[PART_COUNT_BUCKETS];
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] = partCounts[i].sum();
+        }
+        return histogram;
+    }
+
+    public long caseSeparatedReadCount() {
+        return caseSeparatedReads.sum();
+    }
+
+    public long formattingCount() {
+        return formattings.sum();
+    }
+
+    public long formattingNanos() {
+        return formattingNanos.sum();
+    }
+
+    public long conversionCount() {
+        return conversions.sum();
+    }
+
+    public long conversionNanos() {
+        return conversionNanos.sum();
+    }
+
+    public void reset() {
+        for (LongAdder detection : detections) {
+            detection.reset();
+        }
+        for (LongAdder partCount : partCounts) {
+            partCount.reset();
+        }
+        caseSeparatedReads.reset();
+        formattings.reset();
+        formattingNanos.reset();
+        conversions.reset();
+        conversionNanos.reset();
+    }
+}
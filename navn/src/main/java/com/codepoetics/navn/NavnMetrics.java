@@ -0,0 +1,29 @@
+package com.codepoetics.navn;
+
+public interface NavnMetrics {
+
+    NavnMetrics NONE = new NavnMetrics() { };
+
+    static void install(NavnMetrics metrics) {
+        InstalledMetrics.current = metrics == null ? NONE : metrics;
+    }
+
+    static NavnMetrics installed() {
+        return InstalledMetrics.current;
+    }
+
+    default void formatDetected(SourceFormat format) {
+    }
+
+    default void partsRead(int partCount) {
+    }
+
+    default void caseSeparatedRead() {
+    }
+
+    default void formatted(int partCount, long elapsedNanos) {
+    }
+
+    default void converted(String source, String result, long elapsedNanos) {
+    }
+}
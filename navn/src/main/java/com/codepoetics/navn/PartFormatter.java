@@ -0,0 +1,58 @@
+package com.codepoetics.navn;
+
+import java.io.IOException;
+
+final class PartFormatter {
+
+    private PartFormatter() {
+    }
+
+    static void format(Appendable target, Parts parts, CharSequence separator, FormattingOption option) throws IOException {
+        format(target, parts, separator, option, AcronymDictionary.empty());
+    }
+
+    static void format(Appendable target, Parts parts, CharSequence separator, FormattingOption option, AcronymDictionary acronyms) throws IOException {
+        NavnMetrics metrics = NavnMetrics.installed();
+        if (metrics == NavnMetrics.NONE) {
+            formatParts(target, parts, separator, option, acronyms);
+            return;
+        }
+        long started = System.nanoTime();
+        formatParts(target, parts, separator, option, acronyms);
+        metrics.formatted(parts.size(), System.nanoTime() - started);
+    }
+
+    private static void formatParts(Appendable target, Parts parts, CharSequence separator, FormattingOption option, AcronymDictionary acronyms) throws IOException {
+        for (int i = 0; i < parts.size(); i++) {
+            if (i > 0) {
+                target.append(separator);
+            }
+            format(target, parts, i, option, acronyms);
+        }
+    }
+
+    static void format(Appendable target, Parts parts, int part, FormattingOption option, AcronymDictionary acronyms) throws IOException {
+        CharSequence source = parts.source(part);
+        int start = parts.start(part);
+        int end = parts.end(part);
+        boolean uppercased = acronyms.matches(source, start, end);
+
+        if (option instanceof CaseFormattingOption && isAscii(source, start, end)) {
+            CaseMode initial = uppercased ? CaseMode.UPPERCASE : CaseMode.AS_IS;
+            ((CaseFormattingOption) option).caseMode(initial, source, start, end, part).appendTo(target, source, start, end);
+            return;
+        }
+
+        String unformatted = uppercased ? CaseMapping.ROOT.toUpperCase(parts.get(part)) : parts.get(part);
+        target.append(option.apply(unformatted, (long) part));
+    }
+
+    private static boolean isAscii(CharSequence source, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (source.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
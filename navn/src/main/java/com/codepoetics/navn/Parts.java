@@ -0,0 +1,454 @@
+package com.codepoetics.navn;
+
+import com.codepoetics.protonpack.Streamable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+abstract class Parts implements Iterable<String> {
+
+    static final Parts EMPTY = new ArrayParts(new String[0]);
+
+    static Parts of(String[] parts) {
+        return new ArrayParts(parts);
+    }
+
+    static Parts of(CharSequence source, int[] bounds, int size) {
+        return new OffsetParts(source, bounds, size);
+    }
+
+    static Parts of(CharSequence source, int[] offsets, int from, int to) {
+        return from >= to ? EMPTY : new RangeParts(source, offsets, from, to);
+    }
+
+    static Parts of(Streamable<String> parts) {
+        return new StreamableParts(parts);
+    }
+
+    abstract int size();
+
+    abstract CharSequence source(int part);
+
+    abstract int start(int part);
+
+    abstract int end(int part);
+
+    int length(int part) {
+        return end(part) - start(part);
+    }
+
+    char charAt(int part, int index) {
+        return source(part).charAt(start(part) + index);
+    }
+
+    String get(int part) {
+        return source(part).subSequence(start(part), end(part)).toString();
+    }
+
+    Parts materialise() {
+        return this;
+    }
+
+    Parts slice(int from, int to) {
+        if (from == 0 && to == size()) {
+            return this;
+        }
+        return from >= to ? EMPTY : new SliceParts(this, from, to);
+    }
+
+    Parts concat(Parts next) {
+        if (size() == 0) {
+            return next;
+        }
+        return next.size() == 0 ? this : new ConcatParts(this, next);
+    }
+
+    Streamable<String> streamable() {
+        return Streamable.of(this);
+    }
+
+    String[] toArray() {
+        String[] result = new String[size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = get(i);
+        }
+        return result;
+    }
+
+    int contentHashCode() {
+        int hash = 1;
+        for (int i = 0; i < size(); i++) {
+            CharSequence source = source(i);
+            int partHash = 0;
+            for (int j = start(i); j < end(i); j++) {
+                partHash = 31 * partHash + source.charAt(j);
+            }
+            hash = 31 * hash + partHash;
+        }
+        return hash;
+    }
+
+    boolean contentEquals(Parts other) {
+        if (size() != other.size()) {
+            return false;
+        }
+        for (int i = 0; i < size(); i++) {
+            int length = length(i);
+            if (length != other.length(i)) {
+                return false;
+            }
+            for (int j = 0; j < length; j++) {
+                if (charAt(i, j) != other.charAt(i, j)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<String>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < size();
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return get(next++);
+            }
+        };
+    }
+
+    private static final class OffsetParts extends Parts {
+        private final CharSequence source;
+        private final int[] bounds;
+        private final int size;
+
+        private OffsetParts(CharSequence source, int[] bounds, int size) {
+            this.source = source;
+            this.bounds = bounds;
+            this.size = size;
+        }
+
+        @Override
+        int size() {
+            return size;
+        }
+
+        @Override
+        CharSequence source(int part) {
+            return source;
+        }
+
+        @Override
+        int start(int part) {
+            return bounds[part * 2];
+        }
+
+        @Override
+        int end(int part) {
+            return bounds[part * 2 + 1];
+        }
+    }
+
+    private static final class RangeParts extends Parts {
+        private final CharSequence source;
+        private final int[] offsets;
+        private final int from;
+        private final int to;
+
+        private RangeParts(CharSequence source, int[] offsets, int from, int to) {
+            this.source = source;
+            this.offsets = offsets;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        Parts slice(int from, int to) {
+            return from == 0 && to == size() ? this : of(source, offsets, this.from + from, this.from + to);
+        }
+
+        @Override
+        int size() {
+            return to - from;
+        }
+
+        @Override
+        CharSequence source(int part) {
+            return source;
+        }
+
+        @Override
+        int start(int part) {
+            return offsets[from + part];
+        }
+
+        @Override
+        int end(int part) {
+            return offsets[from + part + 1];
+        }
+    }
+
+    private static final class ArrayParts extends Parts {
+        private final String[] parts;
+
+        private ArrayParts(String[] parts) {
+            this.parts = parts;
+        }
+
+        @Override
+        int size() {
+            return parts.length;
+        }
+
+        @Override
+        CharSequence source(int part) {
+            return parts[part];
+        }
+
+        @Override
+        int start(int part) {
+            return 0;
+        }
+
+        @Override
+        int end(int part) {
+            return parts[part].length();
+        }
+
+        @Override
+        String get(int part) {
+            return parts[part];
+        }
+
+        @Override
+        Streamable<String> streamable() {
+            return Streamable.of(parts);
+        }
+
+        @Override
+        String[] toArray() {
+            return parts.clone();
+        }
+    }
+
+    private static final class StreamableParts extends Parts {
+        private final Streamable<String> parts;
+        private Parts materialised;
+
+        private StreamableParts(Streamable<String> parts) {
+            this.parts = parts;
+        }
+
+        @Override
+        Parts materialise() {
+            Parts result = materialised;
+            if (result == null) {
+                result = new ArrayParts(parts.toArray(String[]::new));
+                materialised = result;
+            }
+            return result;
+        }
+
+        @Override
+        Streamable<String> streamable() {
+            return materialise().streamable();
+        }
+
+        @Override
+        String[] toArray() {
+            return materialise().toArray();
+        }
+
+        @Override
+        int size() {
+            return materialise().size();
+        }
+
+        @Override
+        CharSequence source(int part) {
+            return materialise().source(part);
+        }
+
+        @Override
+        int start(int part) {
+            return 0;
+        }
+
+        @Override
+        int end(int part) {
+            return materialise().end(part);
+        }
+
+        @Override
+        String get(int part) {
+            return materialise().get(part);
+        }
+    }
+
+    private static final class FlatParts extends Parts {
+        private final CharSequence[] sources;
+        private final int[] bounds;
+
+        private FlatParts(CharSequence[] sources, int[] bounds) {
+            this.sources = sources;
+            this.bounds = bounds;
+        }
+
+        @Override
+        int size() {
+            return sources.length;
+        }
+
+        @Override
+        CharSequence source(int part) {
+            return sources[part];
+        }
+
+        @Override
+        int start(int part) {
+            return bounds[part * 2];
+        }
+
+        @Override
+        int end(int part) {
+            return bounds[part * 2 + 1];
+        }
+    }
+
+    private static final class SliceParts extends Parts {
+        private final Parts base;
+        private final int from;
+        private final int to;
+
+        private SliceParts(Parts base, int from, int to) {
+            this.base = base;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        Parts slice(int from, int to) {
+            return from >= to ? EMPTY : base.slice(this.from + from, this.from + to);
+        }
+
+        @Override
+        int size() {
+            return to - from;
+        }
+
+        @Override
+        CharSequence source(int part) {
+            return base.source(from + part);
+        }
+
+        @Override
+        int start(int part) {
+            return base.start(from + part);
+        }
+
+        @Override
+        int end(int part) {
+            return base.end(from + part);
+        }
+    }
+
+    private static final class ConcatParts extends Parts {
+        private final Parts left;
+        private final Parts right;
+        private final int size;
+        private Parts flattened;
+
+        private ConcatParts(Parts left, Parts right) {
+            this.left = left;
+            this.right = right;
+            this.size = left.size() + right.size();
+        }
+
+        @Override
+        Parts materialise() {
+            Parts result = flattened;
+            if (result == null) {
+                result = flatten();
+                flattened = result;
+            }
+            return result;
+        }
+
+        private Parts flatten() {
+            CharSequence[] sources = new CharSequence[size];
+            int[] bounds = new int[size * 2];
+            int count = 0;
+
+            Deque<Window> pending = new ArrayDeque<>();
+            pending.push(new Window(this, 0, size));
+            while (!pending.isEmpty()) {
+                Window window = pending.pop();
+                if (window.parts instanceof ConcatParts && ((ConcatParts) window.parts).flattened == null) {
+                    ConcatParts concat = (ConcatParts) window.parts;
+                    int leftSize = concat.left.size();
+                    if (window.to > leftSize) {
+                        pending.push(new Window(concat.right, Math.max(0, window.from - leftSize), window.to - leftSize));
+                    }
+                    if (window.from < leftSize) {
+                        pending.push(new Window(concat.left, window.from, Math.min(window.to, leftSize)));
+                    }
+                } else if (window.parts instanceof SliceParts) {
+                    SliceParts slice = (SliceParts) window.parts;
+                    pending.push(new Window(slice.base, slice.from + window.from, slice.from + window.to));
+                } else {
+                    Parts leaf = window.parts.materialise();
+                    for (int i = window.from; i < window.to; i++) {
+                        sources[count] = leaf.source(i);
+                        bounds[count * 2] = leaf.start(i);
+                        bounds[count * 2 + 1] = leaf.end(i);
+                        count++;
+                    }
+                }
+            }
+            return new FlatParts(sources, bounds);
+        }
+
+        @Override
+        int size() {
+            return size;
+        }
+
+        @Override
+        CharSequence source(int part) {
+            return materialise().source(part);
+        }
+
+        @Override
+        int start(int part) {
+            return materialise().start(part);
+        }
+
+        @Override
+        int end(int part) {
+            return materialise().end(part);
+        }
+    }
+
+    private static final class Window {
+        private final Parts parts;
+        private final int from;
+        private final int to;
+
+        private Window(Parts parts, int from, int to) {
+            this.parts = parts;
+            this.from = from;
+            this.to = to;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.codepoetics.navn;
+
+import java.util.Arrays;
+
+final class PartsBuilder {
+
+    private int[] bounds = new int[16];
+    private int size;
+
+    void add(int start, int end) {
+        if (start >= end) {
+            return;
+        }
+        if (size * 2 + 2 > bounds.length) {
+            bounds = Arrays.copyOf(bounds, bounds.length * 2);
+        }
+        bounds[size * 2] = start;
+        bounds[size * 2 + 1] = end;
+        size++;
+    }
+
+    Parts build(CharSequence source) {
+        return size == 0 ? Parts.EMPTY : Parts.of(source, Arrays.copyOf(bounds, size * 2), size);
+    }
+}
@@ -0,0 +1,214 @@
+package com.codepoetics.navn;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Set;
+
+final class PerfectHashTable {
+
+    private static final int KEYS_PER_BUCKET = 2;
+    private static final int SEEDS_PER_LAYOUT = 8;
+    private static final int MAXIMUM_DISPLACEMENT_ATTEMPTS = 1 << 16;
+
+    static PerfectHashTable of(String[] keys, String[] values) {
+        Set<String> unique = new HashSet<>();
+        for (String key : keys) {
+            if (!unique.add(key)) {
+                throw new IllegalArgumentException("Duplicate key " + key);
+            }
+        }
+        // Start minimal, with one slot per key. If a few seeds fail, use more, smaller buckets, and only once every
+        // bucket averages a single key give up minimality and add slots.
+        int slotCount = Math.max(1, keys.length);
+        int bucketCount = Math.max(1, (keys.length + KEYS_PER_BUCKET - 1) / KEYS_PER_BUCKET);
+        for (int seed = 1; ; seed++) {
+            PerfectHashTable table = build(keys, values, seed, bucketCount, slotCount);
+            if (table != null) {
+                return table;
+            }
+            if (seed % SEEDS_PER_LAYOUT == 0) {
+                if (bucketCount < slotCount) {
+                    bucketCount = Math.min(slotCount, bucketCount * 2);
+                } else {
+                    slotCount += slotCount / 4 + 1;
+                }
+            }
+        }
+    }
+
+    private static PerfectHashTable build(String[] keys, String[] values, int seed, int bucketCount, int slotCount) {
+        int size = keys.length;
+        int[] bucketOf = new int[size];
+        int[] bucketStarts = new int[bucketCount + 1];
+        for (int i = 0; i < size; i++) {
+            bucketOf[i] = index(hash(keys[i], seed), bucketCount);
+            bucketStarts[bucketOf[i] + 1]++;
+        }
+        int largest = 0;
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            largest = Math.max(largest, bucketStarts[bucket + 1]);
+            bucketStarts[bucket + 1] += bucketStarts[bucket];
+        }
+        int[] members = new int[size];
+        int[] filled = Arrays.copyOf(bucketStarts, bucketCount);
+        for (int i = 0; i < size; i++) {
+            members[filled[bucketOf[i]]++] = i;
+        }
+
+        int[] displacements = new int[bucketCount];
+        String[] slotKeys = new String[slotCount];
+        String[] slotValues = new String[slotCount];
+        BitSet occupied = new BitSet(slotCount);
+        int[] slots = new int[Math.max(1, largest)];
+
+        for (int bucketSize = largest; bucketSize > 1; bucketSize--) {
+            for (int bucket = 0; bucket < bucketCount; bucket++) {
+                int from = bucketStarts[bucket];
+                if (bucketStarts[bucket + 1] - from != bucketSize) {
+                    continue;
+                }
+                int displacement = findDisplacement(keys, members, from, bucketSize, occupied, slots, slotCount);
+                if (displacement < 0) {
+                    return null;
+                }
+                displacements[bucket] = displacement;
+                for (int i = 0; i < bucketSize; i++) {
+                    place(keys, values, members[from + i], slots[i], occupied, slotKeys, slotValues);
+                }
+            }
+        }
+
+        // Single-key buckets point straight at a free slot, stored as a negative displacement, so the last keys
+        // never have to search for the last few free slots.
+        int free = 0;
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            int from = bucketStarts[bucket];
+            if (bucketStarts[bucket + 1] - from == 1) {
+                free = occupied.nextClearBit(free);
+                displacements[bucket] = -free - 1;
+                place(keys, values, members[from], free, occupied, slotKeys, slotValues);
+            }
+        }
+        return new PerfectHashTable(seed, displacements, slotKeys, slotValues, size);
+    }
+
+    private static void place(String[] keys, String[] values, int key, int slot, BitSet occupied, String[] slotKeys, String[] slotValues) {
+        occupied.set(slot);
+        slotKeys[slot] = keys[key];
+        slotValues[slot] = values[key];
+    }
+
+    private static int findDisplacement(String[] keys, int[] members, int from, int count, BitSet occupied, int[] slots, int slotCount) {
+        for (int displacement = 1; displacement < MAXIMUM_DISPLACEMENT_ATTEMPTS; displacement++) {
+            if (fits(keys, members, from, count, occupied, slots, slotCount, displacement)) {
+                return displacement;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean fits(String[] keys, int[] members, int from, int count, BitSet occupied, int[] slots, int slotCount, int displacement) {
+        for (int i = 0; i < count; i++) {
+            int slot = index(hash(keys[members[from + i]], displacement), slotCount);
+            if (occupied.get(slot)) {
+                return false;
+            }
+            for (int j = 0; j < i; j++) {
+                if (slots[j] == slot) {
+                    return false;
+                }
+            }
+            slots[i] = slot;
+        }
+        return true;
+    }
+
+    private final int seed;
+    private final int[] displacements;
+    private final String[] keys;
+    private final String[] values;
+    private final int size;
+
+    private PerfectHashTable(int seed, int[] displacements, String[] keys, String[] values, int size) {
+        this.seed = seed;
+        this.displacements = displacements;
+        this.keys = keys;
+        this.values = values;
+        this.size = size;
+    }
+
+    int size() {
+        return size;
+    }
+
+    String get(CharSequence key) {
+        if (size == 0) {
+            return null;
+        }
+        int displacement = displacements[index(hash(key, seed), displacements.length)];
+        int slot = displacement < 0 ? -displacement - 1 : index(hash(key, displacement), keys.length);
+        return keys[slot] != null && contentEquals(keys[slot], key) ? values[slot] : null;
+    }
+
+    String get(char[] chars, int offset, int length) {
+        if (size == 0) {
+            return null;
+        }
+        int displacement = displacements[index(hash(chars, offset, length, seed), displacements.length)];
+        int slot = displacement < 0 ? -displacement - 1 : index(hash(chars, offset, length, displacement), keys.length);
+        return keys[slot] != null && contentEquals(keys[slot], chars, offset, length) ? values[slot] : null;
+    }
+
+    private static int index(int hash, int size) {
+        return (int) ((hash & 0xFFFFFFFFL) % size);
+    }
+
+    private static int hash(CharSequence key, int seed) {
+        int hash = seed * 0x9E3779B9 ^ key.length();
+        for (int i = 0; i < key.length(); i++) {
+            hash = (hash ^ key.charAt(i)) * 0x01000193;
+        }
+        return mix(hash);
+    }
+
+    private static int hash(char[] chars, int offset, int length, int seed) {
+        int hash = seed * 0x9E3779B9 ^ length;
+        for (int i = offset; i < offset + length; i++) {
+            hash = (hash ^ chars[i]) * 0x01000193;
+        }
+        return mix(hash);
+    }
+
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        return hash ^ hash >>> 16;
+    }
+
+    private static boolean contentEquals(String key, CharSequence candidate) {
+        if (key.length() != candidate.length()) {
+            return false;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            if (key.charAt(i) != candidate.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean contentEquals(String key, char[] chars, int offset, int length) {
+        if (key.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (key.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
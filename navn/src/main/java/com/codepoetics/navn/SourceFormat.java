@@ -2,10 +2,12 @@ package com.codepoetics.navn;
 
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Stream;
+import java.util.regex.Pattern;
 
 public enum SourceFormat implements Predicate<String>, Function<String, String[]> {
     WHITESPACE_SEPARATED() {
+        private final Pattern separator = Pattern.compile("\\s+");
+
         @Override
         public boolean test(String s) {
             return s.chars().anyMatch(Character::isWhitespace);
@@ -13,10 +15,12 @@ public enum SourceFormat implements Predicate<String>, Function<String, String[]
 
         @Override
         public String[] apply(String s) {
-            return s.split("\\s+");
+            return separator.split(s);
         }
     },
     UNDERSCORE_SEPARATED() {
+        private final Splitter separator = Splitter.on('_');
+
         @Override
         public boolean test(String s) {
             return s.contains("_");
@@ -24,10 +28,12 @@ public enum SourceFormat implements Predicate<String>, Function<String, String[]
 
         @Override
         public String[] apply(String input) {
-            return Stream.of(input.split("_+")).filter(s -> s.length() > 0).toArray(String[]::new);
+            return separator.split(input);
         }
     },
     HYPHEN_SEPARATED() {
+        private final Splitter separator = Splitter.on('-');
+
         @Override
         public boolean test(String s) {
             return s.contains("-");
@@ -35,21 +41,19 @@ public enum SourceFormat implements Predicate<String>, Function<String, String[]
 
         @Override
         public String[] apply(String input) {
-            return Stream.of(input.split("-+")).filter(s -> s.length() > 0).toArray(String[]::new);
+            return separator.split(input);
         }
     },
     CASE_SEPARATED() {
-        private final ThreadLocal<CaseSeparatedReader> readerThreadLocal = ThreadLocal.withInitial(CaseSeparatedReader::new);
-
         @Override
         public boolean test(String s) {
-            return s.chars().anyMatch(Character::isLowerCase) &&
-                    s.chars().anyMatch(Character::isUpperCase);
+            return s.codePoints().anyMatch(Character::isLowerCase) &&
+                    s.codePoints().anyMatch(Character::isUpperCase);
         }
 
         @Override
         public String[] apply(String s) {
-            return readerThreadLocal.get().read(s);
+            return CaseSeparatedReader.read(s);
         }
     }
 }
@@ -0,0 +1,167 @@
+package com.codepoetics.navn;
+
+import java.util.Arrays;
+
+final class SourceScanner {
+
+    static final int WHITESPACE = 0;
+    static final int UNDERSCORE = 1;
+    static final int HYPHEN = 2;
+    static final int CASE = 3;
+    static final int NONE = 4;
+
+    private static final SourceFormat[] FORMATS = SourceFormat.values();
+
+    private int[] runs = new int[24];
+    private int runCount;
+    private PartsBuilder parts;
+    private SourceFormat format;
+
+    public SourceFormat format() {
+        return format;
+    }
+
+    public Parts parts(CharSequence source) {
+        return parts.build(source);
+    }
+
+    public Parts parts(CharSequence source, AcronymDictionary acronyms) {
+        Parts unsplit = parts.build(source);
+        if (format != SourceFormat.CASE_SEPARATED || acronyms.isEmpty()) {
+            return unsplit;
+        }
+        PartsBuilder split = new PartsBuilder();
+        for (int i = 0; i < unsplit.size(); i++) {
+            acronyms.split(source, unsplit.start(i), unsplit.end(i), split);
+        }
+        return split.build(source);
+    }
+
+    public SourceScanner scan(CharSequence source) {
+        runCount = 0;
+        parts = new PartsBuilder();
+        format = null;
+
+        int start = 0;
+        int end = source.length();
+        while (start < end && source.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && source.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            report();
+            return this;
+        }
+
+        int best = NONE;
+        boolean hasLowercase = false;
+        boolean hasUppercase = false;
+        int caseState = CaseSeparatedReader.INITIAL;
+        int previous = start;
+        int runKind = NONE;
+        int runStart = start;
+
+        for (int i = start; i < end; ) {
+            int c = Character.codePointAt(source, i);
+            int kind = separatorKind(c);
+
+            if (kind != runKind) {
+                if (runKind <= best) {
+                    addRun(runKind, runStart, i);
+                }
+                runKind = kind;
+                runStart = i;
+            }
+
+            if (kind == NONE) {
+                if (Ascii.isWhitespace(c)) {
+                    best = WHITESPACE;
+                }
+            } else {
+                best = Math.min(best, kind);
+            }
+
+            if (best == NONE) {
+                hasUppercase = hasUppercase || Ascii.isUpperCase(c);
+                hasLowercase = hasLowercase || Ascii.isLowerCase(c);
+
+                caseState = CaseSeparatedReader.transition(caseState, c);
+                if ((caseState & CaseSeparatedReader.SPLIT_BEFORE_CURRENT) != 0) {
+                    addRun(CASE, i, i);
+                } else if ((caseState & CaseSeparatedReader.SPLIT_BEFORE_PREVIOUS) != 0) {
+                    addRun(CASE, previous, previous);
+                }
+            }
+
+            previous = i;
+            i += Character.charCount(c);
+        }
+
+        if (runKind <= best) {
+            addRun(runKind, runStart, end);
+        }
+
+        if (best == NONE && hasLowercase && hasUppercase) {
+            best = CASE;
+        }
+        format = best == NONE ? null : FORMATS[best];
+        collectParts(best, start, end);
+        report();
+        return this;
+    }
+
+    private void report() {
+        NavnMetrics metrics = NavnMetrics.installed();
+        if (metrics != NavnMetrics.NONE) {
+            metrics.formatDetected(format);
+            if (format == SourceFormat.CASE_SEPARATED) {
+                metrics.caseSeparatedRead();
+            }
+        }
+    }
+
+    static int separatorKind(int c) {
+        switch (c) {
+            case ' ':
+            case '\t':
+            case '\n':
+            case '\u000B':
+            case '\f':
+            case '\r':
+                return WHITESPACE;
+            case '_':
+                return UNDERSCORE;
+            case '-':
+                return HYPHEN;
+            default:
+                return NONE;
+        }
+    }
+
+    private void addRun(int kind, int start, int end) {
+        if (kind == NONE) {
+            return;
+        }
+        if (runCount * 3 + 3 > runs.length) {
+            runs = Arrays.copyOf(runs, runs.length * 2);
+        }
+        runs[runCount * 3] = kind;
+        runs[runCount * 3 + 1] = start;
+        runs[runCount * 3 + 2] = end;
+        runCount++;
+    }
+
+    private void collectParts(int kind, int start, int end) {
+        int partStart = start;
+        for (int i = 0; i < runCount; i++) {
+            if (runs[i * 3] != kind) {
+                continue;
+            }
+            parts.add(partStart, runs[i * 3 + 1]);
+            partStart = runs[i * 3 + 2];
+        }
+        parts.add(partStart, end);
+    }
+}
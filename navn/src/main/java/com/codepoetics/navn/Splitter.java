@@ -0,0 +1,163 @@
+package com.codepoetics.navn;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public abstract class Splitter implements Function<String, String[]> {
+
+    private static final int MAXIMUM_CACHED_PATTERNS = 256;
+    private static final ConcurrentMap<String, Splitter> PATTERN_SPLITTERS = new ConcurrentHashMap<>();
+    private static final String REGEX_METACHARACTERS = "\\^$.|?*+()[]{}";
+
+    public static Splitter on(char separator) {
+        return new SingleCharSplitter(separator);
+    }
+
+    public static Splitter onAnyOf(CharSequence separators) {
+        return separators.length() == 1
+                ? on(separators.charAt(0))
+                : new CharSetSplitter(separators.toString());
+    }
+
+    public static Splitter onPattern(String regex) {
+        Splitter cached = PATTERN_SPLITTERS.get(regex);
+        if (cached != null) {
+            return cached;
+        }
+        String separators = literalSeparators(regex);
+        Splitter splitter = separators == null
+                ? new PatternSplitter(Pattern.compile(regex))
+                : onAnyOf(separators);
+        if (PATTERN_SPLITTERS.size() < MAXIMUM_CACHED_PATTERNS) {
+            PATTERN_SPLITTERS.putIfAbsent(regex, splitter);
+        }
+        return splitter;
+    }
+
+    public static Splitter onPattern(Pattern pattern) {
+        return new PatternSplitter(pattern);
+    }
+
+    private static String literalSeparators(String regex) {
+        StringBuilder separators = new StringBuilder();
+        int i = 0;
+        if (regex.startsWith("[")) {
+            int close = regex.indexOf(']', 1);
+            if (close < 2 || regex.charAt(1) == '^') {
+                return null;
+            }
+            for (i = 1; i < close; i++) {
+                char c = regex.charAt(i);
+                if (c == '\\' && i + 1 < close && isEscapedLiteral(regex.charAt(i + 1))) {
+                    separators.append(regex.charAt(++i));
+                } else if (c == '-' && i == close - 1 || "[\\&-".indexOf(c) < 0) {
+                    separators.append(c);
+                } else {
+                    return null;
+                }
+            }
+            i = close + 1;
+        } else if (regex.length() > 1 && regex.charAt(0) == '\\' && isEscapedLiteral(regex.charAt(1))) {
+            separators.append(regex.charAt(1));
+            i = 2;
+        } else if (!regex.isEmpty() && REGEX_METACHARACTERS.indexOf(regex.charAt(0)) < 0) {
+            separators.append(regex.charAt(0));
+            i = 1;
+        } else {
+            return null;
+        }
+
+        if (i < regex.length() && regex.charAt(i) == '+') {
+            i++;
+        }
+        return i == regex.length() ? separators.toString() : null;
+    }
+
+    private static boolean isEscapedLiteral(char c) {
+        return c < 128 && !Character.isLetterOrDigit(c);
+    }
+
+    private Splitter() {
+    }
+
+    abstract Parts parts(CharSequence source);
+
+    public String[] split(CharSequence source) {
+        return parts(source).toArray();
+    }
+
+    @Override
+    public String[] apply(String source) {
+        return split(source);
+    }
+
+    private abstract static class CharMatchingSplitter extends Splitter {
+        abstract boolean isSeparator(char c);
+
+        @Override
+        Parts parts(CharSequence source) {
+            PartsBuilder parts = new PartsBuilder();
+            int start = 0;
+            for (int i = 0; i < source.length(); i++) {
+                if (isSeparator(source.charAt(i))) {
+                    parts.add(start, i);
+                    start = i + 1;
+                }
+            }
+            parts.add(start, source.length());
+            return parts.build(source);
+        }
+    }
+
+    private static final class SingleCharSplitter extends CharMatchingSplitter {
+        private final char separator;
+
+        private SingleCharSplitter(char separator) {
+            this.separator = separator;
+        }
+
+        @Override
+        boolean isSeparator(char c) {
+            return c == separator;
+        }
+    }
+
+    private static final class CharSetSplitter extends CharMatchingSplitter {
+        private final boolean[] asciiSeparators = new boolean[128];
+        private final String separators;
+
+        private CharSetSplitter(String separators) {
+            this.separators = separators;
+            separators.chars().filter(c -> c < 128).forEach(c -> asciiSeparators[c] = true);
+        }
+
+        @Override
+        boolean isSeparator(char c) {
+            return c < 128 ? asciiSeparators[c] : separators.indexOf(c) >= 0;
+        }
+    }
+
+    private static final class PatternSplitter extends Splitter {
+        private final Pattern pattern;
+
+        private PatternSplitter(Pattern pattern) {
+            this.pattern = pattern;
+        }
+
+        @Override
+        Parts parts(CharSequence source) {
+            PartsBuilder parts = new PartsBuilder();
+            Matcher matcher = pattern.matcher(source);
+            int start = 0;
+            while (matcher.find()) {
+                parts.add(start, matcher.start());
+                start = matcher.end();
+            }
+            parts.add(start, source.length());
+            return parts.build(source);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.codepoetics.navn;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+public final class Tokenizer {
+
+    @FunctionalInterface
+    public interface PartHandler {
+        void part(char[] chars, int offset, int length);
+    }
+
+    public static Tokenizer of(SourceFormat format, PartHandler handler) {
+        return new Tokenizer(format, handler);
+    }
+
+    private final SourceFormat format;
+    private final PartHandler handler;
+
+    private char[] part = new char[32];
+    private int length;
+    private int previous;
+    private int caseState = CaseSeparatedReader.INITIAL;
+    private char highSurrogate;
+
+    private Tokenizer(SourceFormat format, PartHandler handler) {
+        this.format = format;
+        this.handler = handler;
+    }
+
+    public Tokenizer accept(char[] chars, int offset, int count) {
+        for (int i = offset; i < offset + count; i++) {
+            accept(chars[i]);
+        }
+        return this;
+    }
+
+    public Tokenizer accept(CharBuffer chars) {
+        if (chars.hasArray()) {
+            int offset = chars.arrayOffset() + chars.position();
+            accept(chars.array(), offset, chars.remaining());
+            chars.position(chars.limit());
+        } else {
+            while (chars.hasRemaining()) {
+                accept(chars.get());
+            }
+        }
+        return this;
+    }
+
+    public Tokenizer accept(CharSequence chars) {
+        for (int i = 0; i < chars.length(); i++) {
+            accept(chars.charAt(i));
+        }
+        return this;
+    }
+
+    public void finish() {
+        if (highSurrogate != 0) {
+            readCodePoint(highSurrogate);
+            highSurrogate = 0;
+        }
+        emit(length);
+        previous = 0;
+        caseState = CaseSeparatedReader.INITIAL;
+    }
+
+    private void accept(char c) {
+        switch (format) {
+            case WHITESPACE_SEPARATED:
+                separateOn(c, isWhitespace(c));
+                break;
+            case UNDERSCORE_SEPARATED:
+                separateOn(c, c == '_');
+                break;
+            case HYPHEN_SEPARATED:
+                separateOn(c, c == '-');
+                break;
+            default:
+                readCaseSeparated(c);
+        }
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c >= '\t' && c <= '\r';
+    }
+
+    private void separateOn(char c, boolean isSeparator) {
+        if (isSeparator) {
+            emit(length);
+        } else {
+            append(c);
+        }
+    }
+
+    private void readCaseSeparated(char c) {
+        if (highSurrogate != 0) {
+            char high = highSurrogate;
+            highSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                readCodePoint(Character.toCodePoint(high, c));
+                return;
+            }
+            readCodePoint(high);
+        }
+        if (Character.isHighSurrogate(c)) {
+            highSurrogate = c;
+        } else {
+            readCodePoint(c);
+        }
+    }
+
+    private void readCodePoint(int codePoint) {
+        caseState = CaseSeparatedReader.transition(caseState, codePoint);
+        if ((caseState & CaseSeparatedReader.SPLIT_BEFORE_CURRENT) != 0) {
+            emit(length);
+        } else if ((caseState & CaseSeparatedReader.SPLIT_BEFORE_PREVIOUS) != 0) {
+            emit(previous);
+        }
+        previous = length;
+        if (Character.isBmpCodePoint(codePoint)) {
+            append((char) codePoint);
+        } else {
+            append(Character.highSurrogate(codePoint));
+            append(Character.lowSurrogate(codePoint));
+        }
+    }
+
+    private void append(char c) {
+        if (length == part.length) {
+            part = Arrays.copyOf(part, length * 2);
+        }
+        part[length++] = c;
+    }
+
+    private void emit(int end) {
+        if (end > 0) {
+            handler.part(part, 0, end);
+            System.arraycopy(part, end, part, 0, length - end);
+            length -= end;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.codepoetics.navn;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+final class Utf8 {
+
+    private Utf8() {
+    }
+
+    static boolean isAscii(ByteBuffer bytes) {
+        if (bytes.hasArray()) {
+            byte[] array = bytes.array();
+            int end = bytes.arrayOffset() + bytes.limit();
+            for (int i = bytes.arrayOffset() + bytes.position(); i < end; i++) {
+                if (array[i] < 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        for (int i = bytes.position(); i < bytes.limit(); i++) {
+            if (bytes.get(i) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static final class AsciiSequence implements CharSequence {
+        private final ByteBuffer bytes;
+        private final int offset;
+        private final int length;
+
+        AsciiSequence(ByteBuffer bytes) {
+            this(bytes, bytes.position(), bytes.remaining());
+        }
+
+        private AsciiSequence(ByteBuffer bytes, int offset, int length) {
+            this.bytes = bytes;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) bytes.get(offset + index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new AsciiSequence(bytes, offset + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            byte[] copy = new byte[length];
+            for (int i = 0; i < length; i++) {
+                copy[i] = bytes.get(offset + i);
+            }
+            return new String(copy, StandardCharsets.US_ASCII);
+        }
+    }
+
+    static final class Output implements Appendable {
+
+        static Output growable(int capacity) {
+            return new Output(ByteBuffer.allocate(Math.max(capacity, 16)), true);
+        }
+
+        static Output into(ByteBuffer target) {
+            return new Output(target, false);
+        }
+
+        private ByteBuffer bytes;
+        private final boolean growable;
+        private final int start;
+        private int overflow;
+        private char highSurrogate;
+
+        private Output(ByteBuffer bytes, boolean growable) {
+            this.bytes = bytes;
+            this.growable = growable;
+            this.start = bytes.position();
+        }
+
+        @Override
+        public Output append(CharSequence chars) {
+            return append(chars, 0, chars.length());
+        }
+
+        @Override
+        public Output append(CharSequence chars, int start, int end) {
+            for (int i = start; i < end; i++) {
+                append(chars.charAt(i));
+            }
+            return this;
+        }
+
+        @Override
+        public Output append(char c) {
+            if (c < 0x80 && highSurrogate == 0) {
+                put(c);
+                return this;
+            }
+            if (highSurrogate != 0) {
+                char high = highSurrogate;
+                highSurrogate = 0;
+                if (Character.isLowSurrogate(c)) {
+                    int codePoint = Character.toCodePoint(high, c);
+                    put(0xF0 | codePoint >> 18);
+                    put(0x80 | codePoint >> 12 & 0x3F);
+                    put(0x80 | codePoint >> 6 & 0x3F);
+                    put(0x80 | codePoint & 0x3F);
+                    return this;
+                }
+                put('?');
+            }
+            if (c < 0x80) {
+                put(c);
+            } else if (c < 0x800) {
+                put(0xC0 | c >> 6);
+                put(0x80 | c & 0x3F);
+            } else if (Character.isHighSurrogate(c)) {
+                highSurrogate = c;
+            } else if (Character.isLowSurrogate(c)) {
+                put('?');
+            } else {
+                put(0xE0 | c >> 12);
+                put(0x80 | c >> 6 & 0x3F);
+                put(0x80 | c & 0x3F);
+            }
+            return this;
+        }
+
+        private void put(int b) {
+            if (!bytes.hasRemaining()) {
+                if (!growable) {
+                    // Keep counting, so that the caller can report how much room the whole name needs.
+                    overflow++;
+                    return;
+                }
+                bytes.flip();
+                bytes = ByteBuffer.allocate(bytes.capacity() * 2).put(bytes);
+            }
+            bytes.put((byte) b);
+        }
+
+        private void finish() {
+            if (highSurrogate != 0) {
+                highSurrogate = 0;
+                put('?');
+            }
+        }
+
+        int length() {
+            finish();
+            return bytes.position() - start + overflow;
+        }
+
+        boolean overflowed() {
+            finish();
+            return overflow > 0;
+        }
+
+        byte[] toByteArray() {
+            finish();
+            return Arrays.copyOf(bytes.array(), bytes.position());
+        }
+
+        @Override
+        public String toString() {
+            finish();
+            ByteBuffer written = bytes.duplicate();
+            written.limit(written.position()).position(start);
+            return StandardCharsets.UTF_8.decode(written).toString();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.codepoetics.navn;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assume.assumeTrue;
+
+public class AllocationBudgetTest {
+
+    private static final int WARMUP_ITERATIONS = 20000;
+    private static final int MEASURED_ITERATIONS = 20000;
+
+    private static com.sun.management.ThreadMXBean threads;
+    private static volatile Object sink;
+
+    @BeforeClass public static void
+    enableAllocationCounting() {
+        // Coverage and profiling agents instrument the code under test, and their probes allocate.
+        assumeTrue(ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+                .noneMatch(argument -> argument.startsWith("-javaagent") || argument.startsWith("-agent")));
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    private static long bytesPerOperation(Supplier<?> operation) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink = operation.get();
+        }
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            sink = operation.get();
+        }
+        return (threads.getThreadAllocatedBytes(threadId) - before) / MEASURED_ITERATIONS;
+    }
+
+    private static void assertWithinBudget(String description, long budget, Supplier<?> operation) {
+        long allocated = bytesPerOperation(operation);
+        assertThat(description + " allocated " + allocated + " bytes per operation", allocated, lessThanOrEqualTo(budget));
+    }
+
+    @Test public void
+    parsingStaysWithinBudget() {
+        assertWithinBudget("Name.of whitespace separated", 448, () -> Name.of("customer order id"));
+        assertWithinBudget("Name.of underscore separated", 448, () -> Name.of("customer_order_id"));
+        assertWithinBudget("Name.of hyphen separated", 448, () -> Name.of("customer-order-id"));
+        assertWithinBudget("Name.of case separated", 448, () -> Name.of("customerOrderId"));
+        assertWithinBudget("CaseSeparatedReader.read", 288, () -> CaseSeparatedReader.read("customerOrderID"));
+    }
+
+    @Test public void
+    formattingStaysWithinBudget() {
+        Name name = Name.of("customerOrderId");
+        StringBuilder target = new StringBuilder(64);
+
+        assertWithinBudget("toUnderscored", 160, name::toUnderscored);
+        assertWithinBudget("toHyphenated", 160, name::toHyphenated);
+        assertWithinBudget("toConstant", 160, name::toConstant);
+        assertWithinBudget("toCamelCase", 160, name::toCamelCase);
+        assertWithinBudget("toTitleCase", 160, name::toTitleCase);
+        assertWithinBudget("toAddress", 160, name::toAddress);
+        // Nothing on this path allocates, so the zero budget holds under -Xint and C1 as well as after escape analysis.
+        assertWithinBudget("toUnderscored into a StringBuilder", 0, () -> {
+            target.setLength(0);
+            return name.toUnderscored(target);
+        });
+        NameConverter converter = NameConverter.toCamelCase();
+        assertWithinBudget("NameConverter.convert into a StringBuilder", 400, () -> {
+            target.setLength(0);
+            return converter.convert("customer_order_id", target);
+        });
+    }
+}
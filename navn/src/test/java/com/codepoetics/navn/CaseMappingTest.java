@@ -0,0 +1,71 @@
+package com.codepoetics.navn;
+
+import org.junit.Test;
+
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class CaseMappingTest {
+
+    private static final Locale TURKISH = new Locale("tr", "TR");
+
+    @Test public void
+    mapsAsciiWithoutCopyingUnchangedParts() {
+        String lowercase = "customer";
+        String uppercase = "ID";
+
+        assertThat(CaseMapping.ROOT.toLowerCase(lowercase), sameInstance(lowercase));
+        assertThat(CaseMapping.ROOT.capitalise(uppercase), sameInstance(uppercase));
+        assertThat(CaseMapping.ROOT.toLowerCaseUnlessAllUpperCase(uppercase), sameInstance(uppercase));
+        assertThat(CaseMapping.ROOT.capitalise("cUSTOMER"), equalTo("Customer"));
+        assertThat(CaseMapping.ROOT.capitalise("ID2"), equalTo("Id2"));
+        assertThat(CaseMapping.ROOT.toUpperCase("order_id"), equalTo("ORDER_ID"));
+    }
+
+    @Test public void
+    fallsBackToRootUnicodeMapping() {
+        assertThat(CaseMapping.ROOT.toUpperCase("straße"), equalTo("STRASSE"));
+        assertThat(CaseMapping.ROOT.capitalise("éCOLE"), equalTo("École"));
+        assertThat(CaseMapping.ROOT.capitalise("ÉCOLE"), equalTo("ÉCOLE"));
+    }
+
+    @Test public void
+    capitalisesOneCodePointWithoutExpandingIt() {
+        assertThat(CaseMapping.ROOT.capitalise("ß"), equalTo("ß"));
+        assertThat(CaseMapping.ROOT.capitalise("ﬁleName"), equalTo("ﬁlename"));
+        assertThat(CaseMapping.of(new Locale("tr")).capitalise("istanbul"), equalTo("İstanbul"));
+        assertThat(Name.of("ß").toTitleCase(), equalTo("ß"));
+        assertThat(Name.of("ß").toAddress(), equalTo("ß"));
+        assertThat(Name.of("ﬁleName").toTitleCase(), equalTo("ﬁleName"));
+        assertThat(Name.of("ÉaBσ-ßBZ-").toCamelCase(), equalTo("éabσßbz"));
+    }
+
+    @Test public void
+    builtInOptionsIgnoreTheDefaultLocale() {
+        Locale previous = Locale.getDefault();
+        Locale.setDefault(TURKISH);
+        try {
+            Name name = Name.of("customer ID");
+            assertThat(name.format(Collectors.joining("_"), FormattingOptions.LOWERCASE), equalTo("customer_id"));
+            assertThat(name.format(Collectors.joining("_"), FormattingOptions.UPPERCASE), equalTo("CUSTOMER_ID"));
+            assertThat(Name.of("çiçek id").toTitleCase(), equalTo("ÇiçekId"));
+            assertThat(Name.of("çiçek id").toConstant(), equalTo("ÇIÇEK_ID"));
+        } finally {
+            Locale.setDefault(previous);
+        }
+    }
+
+    @Test public void
+    appliesAnExplicitLocale() {
+        Name name = Name.of("customer ID");
+
+        assertThat(name.format(Collectors.joining("_"), FormattingOptions.LOWERCASE.withLocale(TURKISH)), equalTo("customer_ıd"));
+        assertThat(Name.of("customer id").toSeparated("-", FormattingOptions.UPPERCASE.withLocale(TURKISH)), equalTo("CUSTOMER-İD"));
+        assertThat(name.toSeparated("", FormattingOptions.CAPITALISE_ALL_BUT_FIRST.withLocale(TURKISH)), equalTo("customerID"));
+        assertThat(FormattingOptions.LOWERCASE.withLocale(Locale.ROOT), sameInstance(FormattingOptions.LOWERCASE));
+    }
+}
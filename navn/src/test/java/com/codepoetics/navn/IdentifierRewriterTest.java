@@ -0,0 +1,122 @@
+package com.codepoetics.navn;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class IdentifierRewriterTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static String rewrite(IdentifierRewriter rewriter, String input) throws IOException {
+        StringWriter output = new StringWriter();
+        rewriter.rewrite(new StringReader(input), output);
+        return output.toString();
+    }
+
+    @Test public void
+    rewritesJsonKeysOnly() throws IOException {
+        IdentifierRewriter rewriter = IdentifierRewriter.jsonKeys(NameConverter.toCamelCase());
+
+        assertThat(rewrite(rewriter,
+                "{\"customer_id\": \"order_id\", \"line_items\": [{\"unit_price\": 1.5, \"sku_code\": [\"a_b\"]}], "
+                        + "\"escaped\\\"key_name\": {\"nested_key\": null}}"),
+                equalTo("{\"customerId\": \"order_id\", \"lineItems\": [{\"unitPrice\": 1.5, \"skuCode\": [\"a_b\"]}], "
+                        + "\"escaped\\\"key_name\": {\"nestedKey\": null}}"));
+    }
+
+    @Test public void
+    escapesConvertedJsonKeys() throws IOException {
+        IdentifierRewriter rewriter = IdentifierRewriter.jsonKeys(
+                NameConverter.toSeparated("\"", FormattingOptions.LOWERCASE).from('_'));
+
+        assertThat(rewrite(rewriter, "{\"quote_me\": 1, \"tab\tkey\": 2}"),
+                equalTo("{\"quote\\\"me\": 1, \"tab\\u0009key\": 2}"));
+    }
+
+    @Test public void
+    passesJsonKeysLongerThanTheMaximumThroughUnconverted() throws IOException {
+        IdentifierRewriter rewriter = IdentifierRewriter.jsonKeys(10, NameConverter.toCamelCase()).withBufferSize(5);
+
+        assertThat(rewrite(rewriter, "{\"short_key\": 1, \"much_too_long\\\"_key\": {\"next_key\": \"a_b\"}}"),
+                equalTo("{\"shortKey\": 1, \"much_too_long\\\"_key\": {\"nextKey\": \"a_b\"}}"));
+        assertThat(rewrite(rewriter, "{\"unterminated_key"), equalTo("{\"unterminated_key"));
+    }
+
+    @Test public void
+    rewritesCsvHeaderOnly() throws IOException {
+        IdentifierRewriter rewriter = IdentifierRewriter.csvHeader(NameConverter.toUnderscored());
+
+        assertThat(rewrite(rewriter, "customerId,\"Order Date\",\"Total, \"\"Net\"\"\"\r\nfooBar,x,y\n"),
+                equalTo("customer_id,\"order_date\",\"total,_\"\"net\"\"\"\r\nfooBar,x,y\n"));
+        assertThat(rewrite(rewriter, "customerId,orderDate"), equalTo("customer_id,order_date"));
+    }
+
+    @Test public void
+    rewritesTokensAcrossBufferBoundaries() throws IOException {
+        IdentifierRewriter rewriter = IdentifierRewriter
+                .tokens(Pattern.compile("\\b[a-z]+(?:_[a-z]+)+\\b"), 32, NameConverter.toCamelCase())
+                .withBufferSize(80);
+        String input = IntStream.range(0, 200)
+                .mapToObj(i -> "select customer_name, order_total from order_line_item;")
+                .collect(Collectors.joining("\n"));
+
+        assertThat(rewrite(rewriter, input), equalTo(input
+                .replace("customer_name", "customerName")
+                .replace("order_total", "orderTotal")
+                .replace("order_line_item", "orderLineItem")));
+    }
+
+    @Test public void
+    keepsMatchContextAcrossBufferBoundaries() throws IOException {
+        String input = IntStream.range(0, 200)
+                .mapToObj(i -> "SELECT" + "ABCDEFGHIJKLMNOPQRSTUVWXYZ".substring(0, i % 26) + "customer_name, order_total;")
+                .collect(Collectors.joining("\n"));
+
+        IdentifierRewriter wordBoundaries = IdentifierRewriter
+                .tokens(Pattern.compile("\\b[a-z]+(?:_[a-z]+)+\\b"), 32, NameConverter.toCamelCase())
+                .withBufferSize(80);
+        assertThat(rewrite(wordBoundaries, input), equalTo(input.replace("order_total", "orderTotal")));
+
+        IdentifierRewriter lookbehind = IdentifierRewriter
+                .tokens(Pattern.compile("(?<![A-Za-z_])[a-z]+(?:_[a-z]+)+"), 32, NameConverter.toCamelCase())
+                .withBufferSize(80);
+        assertThat(rewrite(lookbehind, input), equalTo(input.replace("order_total", "orderTotal")));
+    }
+
+    @Test public void
+    rewritesChannelsAndFiles() throws IOException {
+        IdentifierRewriter rewriter = IdentifierRewriter.jsonKeys(NameConverter.toUnderscored()).withBufferSize(7);
+        String input = "{\"customerName\": \"Zoë\", \"ÉtatCivil\": [1, 2]}";
+        String expected = "{\"customer_name\": \"Zoë\", \"état_civil\": [1, 2]}";
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        rewriter.rewrite(
+                Channels.newChannel(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8))),
+                Channels.newChannel(output));
+        assertThat(new String(output.toByteArray(), StandardCharsets.UTF_8), equalTo(expected));
+
+        Path source = folder.newFile("source.json").toPath();
+        Path target = folder.newFile("target.json").toPath();
+        Files.write(source, input.getBytes(StandardCharsets.UTF_8));
+        rewriter.rewrite(source, target);
+        assertThat(new String(Files.readAllBytes(target), StandardCharsets.UTF_8), equalTo(expected));
+    }
+}
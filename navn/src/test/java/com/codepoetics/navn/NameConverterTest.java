@@ -0,0 +1,160 @@
+package com.codepoetics.navn;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.fail;
+
+public class NameConverterTest {
+
+    @Test public void
+    convertsLikeName() {
+        Stream.of("XML to CSV converter", "xml_to_csv_converter", "CSVToXMLConverter", "foo-bar", "  ", "x").forEach(source -> {
+            assertThat(NameConverter.toCamelCase().convert(source), equalTo(Name.of(source).toCamelCase()));
+            assertThat(NameConverter.toCamelCase(false).convert(source), equalTo(Name.of(source).toCamelCase(false)));
+            assertThat(NameConverter.toTitleCase().convert(source), equalTo(Name.of(source).toTitleCase()));
+            assertThat(NameConverter.toUnderscored().convert(source), equalTo(Name.of(source).toUnderscored()));
+            assertThat(NameConverter.toHyphenated().convert(source), equalTo(Name.of(source).toHyphenated()));
+            assertThat(NameConverter.toConstant().convert(source), equalTo(Name.of(source).toConstant()));
+            assertThat(NameConverter.toAddress().convert(source), equalTo(Name.of(source).toAddress()));
+        });
+    }
+
+    @Test public void
+    convertsFromSpecifiedSource() {
+        assertThat(NameConverter.toUnderscored().from(SourceFormat.HYPHEN_SEPARATED).convert("foo-bar_baz"),
+                equalTo("foo_bar_baz"));
+        assertThat(NameConverter.toConstant().from(':').convert("std::io"), equalTo("STD_IO"));
+        assertThat(NameConverter.toCamelCase().from("[.$]").convert("java.util.Map$Entry"),
+                equalTo("javaUtilMapEntry"));
+    }
+
+    @Test public void
+    uppercasesTerms() {
+        NameConverter converter = NameConverter.toCamelCase().uppercasing("xml", "CSV");
+
+        assertThat(converter.convert("xml_to_csv_converter"), equalTo("XMLToCSVConverter"));
+        assertThat(converter.convert("csv_to_json"), equalTo(
+                Name.of("csv_to_json").uppercasing("xml", "CSV").toCamelCase()));
+    }
+
+    @Test public void
+    isAFunction() {
+        assertThat(Stream.of("customer_id", "order_line").map(NameConverter.toTitleCase()).collect(Collectors.toList()),
+                contains("CustomerId", "OrderLine"));
+    }
+
+    @Test public void
+    cachesConversions() {
+        ConversionCache cache = ConversionCache.withMaximumSize(100);
+        NameConverter toColumn = NameConverter.toUnderscored().cached(cache);
+        NameConverter toConstant = NameConverter.toConstant().cached(cache);
+
+        assertThat(toColumn.convert("customerId"), equalTo("customer_id"));
+        assertThat(toColumn.convert("customerId"), equalTo("customer_id"));
+        assertThat(toConstant.convert("customerId"), equalTo("CUSTOMER_ID"));
+
+        assertThat(cache.hitCount(), equalTo(1L));
+        assertThat(cache.missCount(), equalTo(2L));
+        assertThat(cache.size(), equalTo(2));
+    }
+
+    @Test public void
+    evictsBeyondMaximumSize() {
+        ConversionCache cache = ConversionCache.withMaximumSize(10);
+        NameConverter converter = NameConverter.toCamelCase().cached(cache);
+
+        IntStream.range(0, 100).parallel().forEach(i -> converter.convert("column_" + i));
+
+        assertThat(cache.size(), lessThanOrEqualTo(10));
+        assertThat(cache.evictionCount(), greaterThanOrEqualTo(90L));
+        assertThat(converter.convert("column_99"), equalTo("column99"));
+    }
+
+    @Test public void
+    convertsBatches() {
+        NameConverter converter = NameConverter.toUnderscored();
+        String[] columns = IntStream.range(0, 10000).mapToObj(i -> "customerColumn" + i).toArray(String[]::new);
+
+        String[] converted = converter.convertAll(columns);
+
+        assertThat(converted.length, equalTo(10000));
+        assertThat(converted[0], equalTo("customer_column0"));
+        assertThat(converted[9999], equalTo("customer_column9999"));
+        assertThat(converter.convertAll(Arrays.asList("fooBar", "bazQux")), contains("foo_bar", "baz_qux"));
+        assertThat(converter.convertAll(Stream.of("fooBar")).collect(Collectors.toList()), contains("foo_bar"));
+    }
+
+    @Test public void
+    convertsUtf8BytesLikeStrings() {
+        NameConverter[] converters = {
+                NameConverter.toUnderscored(),
+                NameConverter.toCamelCase(false).uppercasing("id"),
+                NameConverter.toSeparated(" : ", FormattingOptions.CAPITALISE_ALL).from('.'),
+                NameConverter.toTitleCase().from(s -> s.split("/"))
+        };
+        String[] sources = { "customerID", "  XML_http-request  ", "order.lineItem/id", "ÉtéMaison", "x𐐀yZ", "" };
+
+        for (NameConverter converter : converters) {
+            for (String source : sources) {
+                byte[] bytes = source.getBytes(StandardCharsets.UTF_8);
+                byte[] expected = converter.convert(source).getBytes(StandardCharsets.UTF_8);
+
+                assertThat(converter.convert(bytes), equalTo(expected));
+
+                ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+                direct.put(bytes).flip();
+                ByteBuffer target = converter.convert(direct, ByteBuffer.allocate(64));
+                assertThat(direct.hasRemaining(), equalTo(false));
+                assertThat(Arrays.copyOf(target.array(), target.position()), equalTo(expected));
+            }
+        }
+    }
+
+    @Test public void
+    rejectsTargetBuffersTooSmallForTheConvertedName() {
+        ByteBuffer source = ByteBuffer.wrap("customerOrderId".getBytes(StandardCharsets.UTF_8));
+        ByteBuffer target = ByteBuffer.allocate(8);
+
+        try {
+            NameConverter.toUnderscored().convert(source, target);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), equalTo("Target buffer has 8 bytes remaining but the converted name needs 17"));
+        }
+        assertThat(source.position(), equalTo(0));
+        assertThat(target.position(), equalTo(0));
+    }
+
+    @Test public void
+    writesStraightIntoTheTargetAfterItsPosition() {
+        NameConverter converter = NameConverter.toUnderscored();
+        ByteBuffer target = ByteBuffer.allocate(14);
+        target.put((byte) '[').put((byte) ' ');
+
+        converter.convert(ByteBuffer.wrap("ÉtéMaison".getBytes(StandardCharsets.UTF_8)), target);
+        assertThat(target.hasRemaining(), equalTo(false));
+        assertThat(new String(target.array(), StandardCharsets.UTF_8), equalTo("[ été_maison"));
+
+        ByteBuffer tooSmall = ByteBuffer.allocate(13);
+        tooSmall.put((byte) '[').put((byte) ' ');
+        try {
+            converter.convert(ByteBuffer.wrap("ÉtéMaison".getBytes(StandardCharsets.UTF_8)), tooSmall);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), equalTo("Target buffer has 11 bytes remaining but the converted name needs 12"));
+        }
+        assertThat(tooSmall.position(), equalTo(2));
+    }
+}
@@ -0,0 +1,42 @@
+package com.codepoetics.navn;
+
+import org.junit.Test;
+
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class NameIndexTest {
+
+    @Test public void
+    computesConventionInsensitiveKeys() {
+        String[] variants = { "customerId", "customer_id", "CUSTOMER-ID", "Customer ID", "  customer-Id " };
+
+        for (String variant : variants) {
+            assertThat(Name.canonicalKey(variant), equalTo("customer_id"));
+            assertThat(Name.canonicalHash(variant), equalTo(Name.of("customer_id").canonicalHash()));
+        }
+        assertThat(Name.canonicalHash("customerIdentifier"), equalTo(Name.canonicalHash("customer identifier")));
+        assertThat(Name.canonicalHash("customerId") == Name.canonicalHash("customerIds"), equalTo(false));
+        assertThat(Name.of(new String[] { "XML", "", "Feed" }).canonicalKey(), equalTo("xml_feed"));
+    }
+
+    @Test public void
+    looksUpAcrossConventions() {
+        NameIndex<Integer> index = NameIndex.create();
+        IntStream.range(0, 1000).forEach(i -> index.put("column" + i + "Value", i));
+
+        assertThat(index.put("customer_id", -1), nullValue());
+        assertThat(index.put(Name.of("CustomerID"), -2), equalTo(-1));
+
+        assertThat(index.size(), equalTo(1001));
+        assertThat(index.get("CUSTOMER-ID"), equalTo(-2));
+        assertThat(index.get(new StringBuilder("Customer id")), equalTo(-2));
+        assertThat(index.get("column999_value"), equalTo(999));
+        assertThat(index.get(Name.of("COLUMN42 VALUE")), equalTo(42));
+        assertThat(index.get("customer_ids"), nullValue());
+        assertThat(index.containsKey("order id"), equalTo(false));
+    }
+}
@@ -0,0 +1,66 @@
+package com.codepoetics.navn;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class NameMappingTest {
+
+    @Test public void
+    mapsBothWays() {
+        NameMapping mapping = NameMapping.of(NameStyle.CAMEL_CASE, NameStyle.UNDERSCORED,
+                "customerId", "order_date", "lineItems", "customerId");
+
+        assertThat(mapping.size(), equalTo(3));
+        assertThat(mapping.forward("customerId"), equalTo("customer_id"));
+        assertThat(mapping.forward("orderDate"), equalTo("order_date"));
+        assertThat(mapping.reverse(new StringBuilder("line_items")), equalTo("lineItems"));
+        assertThat(mapping.forward("order_date"), nullValue());
+        assertThat(mapping.reverse("lineitems"), nullValue());
+
+        char[] row = "id,line_items,order_date".toCharArray();
+        assertThat(mapping.reverse(row, 3, 10), equalTo("lineItems"));
+        assertThat(mapping.reverse(row, 0, 2), nullValue());
+    }
+
+    @Test public void
+    findsEveryNameInLargeMappings() {
+        List<String> properties = IntStream.range(0, 5000)
+                .mapToObj(i -> "property" + Integer.toString(i, 36) + "Value")
+                .collect(Collectors.toList());
+        NameMapping mapping = NameMapping.of(NameStyle.CAMEL_CASE, NameStyle.UNDERSCORED, properties);
+
+        for (String property : properties) {
+            String column = mapping.forward(property);
+            assertThat(column, equalTo(Name.of(property).toUnderscored()));
+            assertThat(mapping.reverse(column.toCharArray(), 0, column.length()), equalTo(property));
+        }
+        assertThat(NameMapping.of(NameStyle.CAMEL_CASE, NameStyle.UNDERSCORED).forward("anything"), nullValue());
+    }
+
+    @Test(timeout = 10000) public void
+    buildsHundredThousandNameMappingsQuickly() {
+        List<String> columns = IntStream.range(0, 100000)
+                .mapToObj(i -> "column_" + Integer.toString(i, 36))
+                .collect(Collectors.toList());
+        NameMapping mapping = NameMapping.of(NameStyle.UNDERSCORED, NameStyle.CAMEL_CASE, columns);
+
+        assertThat(mapping.size(), equalTo(100000));
+        for (int i = 0; i < columns.size(); i += 997) {
+            String column = columns.get(i);
+            assertThat(mapping.reverse(mapping.forward(column)), equalTo(column));
+        }
+        assertThat(mapping.forward("column_not_present"), nullValue());
+    }
+
+    @Test(expected = IllegalArgumentException.class) public void
+    rejectsCollidingNames() {
+        NameMapping.of(NameStyle.CAMEL_CASE, NameStyle.UNDERSCORED, "customerId", "customer_id");
+    }
+}
@@ -0,0 +1,39 @@
+package com.codepoetics.navn;
+
+import org.junit.Test;
+
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class NamePoolTest {
+
+    @Test public void
+    canonicalisesNamesAndParts() {
+        NamePool pool = NamePool.withMaximumSize(100);
+
+        Name first = pool.intern(Name.of("customer_id"));
+        Name second = pool.intern(Name.of("customer id"));
+        Name third = pool.intern(Name.of("order id"));
+
+        assertThat(second, sameInstance(first));
+        assertThat(third.toArray()[1], sameInstance(first.toArray()[1]));
+        assertThat(first.toCamelCase(), equalTo("customerId"));
+        assertThat(pool.nameCount(), equalTo(2));
+        assertThat(pool.partCount(), equalTo(3));
+    }
+
+    @Test public void
+    staysWithinMaximumSize() {
+        NamePool pool = NamePool.withMaximumSize(10);
+
+        IntStream.range(0, 1000).parallel().forEach(i -> pool.intern(Name.of("column_" + i)));
+
+        assertThat(pool.nameCount(), lessThanOrEqualTo(10));
+        assertThat(pool.partCount(), lessThanOrEqualTo(10));
+        assertThat(Name.of("table_name").intern(), sameInstance(Name.of("table-name").intern()));
+    }
+}
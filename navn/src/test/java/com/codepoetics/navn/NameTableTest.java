@@ -0,0 +1,79 @@
+package com.codepoetics.navn;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+
+public class NameTableTest {
+
+    @Test public void
+    storesPartsInFlatArrays() {
+        NameTable table = NameTable.of("customerId", "order_line_number", " - ", "XML to CSV converter");
+
+        assertThat(table.size(), equalTo(4));
+        assertThat(table.partCount(), equalTo(9));
+        assertThat(table.charCount(), equalTo("customerIdorderlinenumberXMLtoCSVconverter".length()));
+        assertThat(table.length(1), equalTo(3));
+        assertThat(table.length(2), equalTo(0));
+    }
+
+    @Test public void
+    formatsEntriesLikeTheNamesTheyWereReadFrom() {
+        List<String> sources = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            sources.add(i % 2 == 0 ? "customerOrder" + i + "ID" : "XML_http-request " + i);
+        }
+        sources.add("");
+        NameTable table = NameTable.of(sources);
+
+        for (int i = 0; i < sources.size(); i++) {
+            Name name = Name.of(sources.get(i));
+            assertThat(table.toUnderscored(i), equalTo(name.toUnderscored()));
+            assertThat(table.toHyphenated(i), equalTo(name.toHyphenated()));
+            assertThat(table.toConstant(i), equalTo(name.toConstant()));
+            assertThat(table.toCamelCase(i), equalTo(name.toCamelCase()));
+            assertThat(table.toTitleCase(i), equalTo(name.toTitleCase()));
+            assertThat(table.toAddress(i), equalTo(name.toAddress()));
+            assertThat(table.get(i), equalTo(name));
+        }
+    }
+
+    @Test public void
+    exposesFlyweightNameViews() {
+        NameTable table = NameTable.builder()
+                .add(Name.of(new String[] { "size", "of", "head" }))
+                .add("getDateOfBirth")
+                .build();
+
+        assertThat(table.get(0).toCamelCase(), equalTo("sizeOfHead"));
+        assertThat(table.get(1).withoutFirst().toList(), contains("Date", "Of", "Birth"));
+        assertThat(table.get(1).withoutFirst().withoutLast().toUnderscored(), equalTo("date_of"));
+        assertThat(table.get(0).hashCode(), equalTo(Name.of("size_of_head").hashCode()));
+        assertThat(table.stream().map(Name::toHyphenated).collect(Collectors.toList()),
+                contains("size-of-head", "get-date-of-birth"));
+        assertThat(table.toAddress(1, new StringBuilder("> ")).toString(), equalTo("> Get Date Of Birth"));
+    }
+
+    @Test public void
+    keepsEmptyParts() {
+        Name name = Name.of(new String[] { "", "customer", "", "id" });
+        NameTable table = NameTable.builder().add(name).add(Name.of(new String[] { "" })).build();
+
+        assertThat(table.get(0), equalTo(name));
+        assertThat(table.length(0), equalTo(4));
+        assertThat(table.toUnderscored(0), equalTo(name.toUnderscored()));
+        assertThat(table.get(1), equalTo(Name.of(new String[] { "" })));
+        assertThat(table.partCount(), equalTo(5));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class) public void
+    rejectsIndexesOutsideTheTable() {
+        NameTable.of("customerId").toUnderscored(1);
+    }
+}
@@ -3,10 +3,17 @@ package com.codepoetics.navn;
 import org.hamcrest.Matchers;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
 import static org.hamcrest.Matchers.contains;
 
 public class NameTest {
@@ -46,11 +53,40 @@ public class NameTest {
         assertThat(Name.of("CSVToXMLConverter").toList(), contains("CSV", "To", "XML", "Converter"));
     }
 
+    @Test public void
+    readsCaseSeparatedWithDigitsAndSupplementaryCharacters() {
+        assertThat(Name.of("HTML5Parser").toList(), contains("HTML5", "Parser"));
+        assertThat(Name.of("base64Encode").toList(), contains("base64", "Encode"));
+        assertThat(Name.of("toUTF8").toList(), contains("to", "UTF8"));
+        assertThat(Name.of("\uD801\uDC28\uD801\uDC00\uD801\uDC28").toList(),
+                contains("\uD801\uDC28", "\uD801\uDC00\uD801\uDC28"));
+    }
+
+    @Test public void
+    detectsSourceFormatInPriorityOrder() {
+        assertThat(Name.of("foo_bar baz-xyzzy").toList(), contains("foo_bar", "baz-xyzzy"));
+        assertThat(Name.of("foo-bar_bazXyzzy").toList(), contains("foo-bar", "bazXyzzy"));
+        assertThat(Name.of("fooBar-baz").toList(), contains("fooBar", "baz"));
+        assertThat(Name.of("FOOBAR").toList(), contains("FOOBAR"));
+        assertThat(Name.of("foo\u2003bar").toList(), contains("foo\u2003bar"));
+    }
+
     @Test public void
     readsColonSeparated() {
         assertThat(Name.of("foo::bar::baz", ':').toList(), contains("foo", "bar", "baz"));
     }
 
+    @Test public void
+    readsWithSplitters() {
+        assertThat(Name.of("::foo::bar::", ':').toList(), contains("foo", "bar"));
+        assertThat(Name.of("foo|bar", '|').toList(), contains("foo", "bar"));
+        assertThat(Name.of("com.example.Foo", "\\.").toList(), contains("com", "example", "Foo"));
+        assertThat(Name.of("java.util.Map$Entry", "[.$]+").toList(), contains("java", "util", "Map", "Entry"));
+        assertThat(Name.of("a1b22c", "\\d+").toList(), contains("a", "b", "c"));
+        assertThat(Name.of("one, two,three", Splitter.onPattern(",\\s*")).toList(), contains("one", "two", "three"));
+        assertThat(Splitter.onAnyOf("./").split("/usr/local.bin"), arrayContaining("usr", "local", "bin"));
+    }
+
     @Test public void
     writesUnderscoreSeparated() {
         assertThat(Name.of("Algernon~Charles~Swinburne", '~').toUnderscored(),
@@ -97,6 +133,18 @@ public class NameTest {
                 equalTo("Arthur Hugh Clough"));
     }
 
+    @Test public void
+    writesIntoExistingBuffers() throws IOException {
+        StringBuilder sql = new StringBuilder("SELECT ");
+        Name.of("customerId").toUnderscored(sql).append(" FROM ");
+        Name.of("CustomerAccount").toUnderscored(sql);
+        assertThat(sql.toString(), equalTo("SELECT customer_id FROM customer_account"));
+
+        StringWriter writer = new StringWriter();
+        Name.of("xml_to_csv").formatTo(writer, "::", FormattingOptions.UPPERCASE, (s, i) -> s + i);
+        assertThat(writer.toString(), equalTo("XML0::TO1::CSV2"));
+    }
+
     @Test public void
     namesAreEqualIfTheyHaveTheSameParts() {
         assertThat(Name.of("arthur_hugh_clough"),
@@ -139,6 +187,19 @@ public class NameTest {
                 equalTo("A*R*T*H*U*R P*U*T*E*Y"));
     }
 
+    @Test public void
+    customCaseFormatting() {
+        CaseFormattingOption shoutFirst = (current, source, start, end, position) ->
+                position == 0 ? CaseMode.UPPERCASE : current;
+
+        assertThat(Name.of("pretty_printer").toSeparated("-", shoutFirst),
+                equalTo("PRETTY-printer"));
+
+        FormattingOption fused = FormattingOption.fuse(FormattingOptions.LOWERCASE, shoutFirst);
+        assertThat(fused.apply("Printer", 1L), equalTo("printer"));
+        assertThat(Name.of("Pretty Printer").toSeparated(fused), equalTo("PRETTY printer"));
+    }
+
     @Test public void
     uppercasing() {
         assertThat(Name.of("xml_to_csv_converter").toCamelCase(),
@@ -149,6 +210,8 @@ public class NameTest {
                 equalTo("xmlToCSVConverter"));
         assertThat(Name.of("xml_to_csv_converter").uppercasing("xml", "csv").toCamelCase(),
                 equalTo("XMLToCSVConverter"));
+        assertThat(Name.of("Xml_to_csv_converter").uppercasing(Arrays.asList("XML", "Csv", "")).toCamelCase(),
+                equalTo("XMLToCSVConverter"));
     }
 
     @Test public void
@@ -205,4 +268,68 @@ public class NameTest {
                 equalTo("Martina Topley-Bird"));
     }
 
+    @Test public void
+    evaluatesDerivedPartsOnce() {
+        AtomicInteger evaluations = new AtomicInteger();
+        Name name = Name.of("customer_order_id").map(part -> {
+            evaluations.incrementAndGet();
+            return part.toUpperCase();
+        }).withoutFirst();
+
+        Map<Name, String> names = new HashMap<>();
+        names.put(name, "order");
+        for (int i = 0; i < 10; i++) {
+            assertThat(names.get(Name.of("ORDER ID")), equalTo("order"));
+            assertThat(name.toUnderscored(), equalTo("order_id"));
+        }
+
+        assertThat(evaluations.get(), equalTo(3));
+        assertThat(name.hashCode(), equalTo(Arrays.hashCode(new String[] { "ORDER", "ID" })));
+        assertThat(name.equals(Name.of("ORDER_IDS")), equalTo(false));
+    }
+
+    @Test public void
+    buildsDeepChainsOfSlicesAndConcatenations() {
+        Name name = Name.of("core");
+        for (int i = 0; i < 100000; i++) {
+            name = name.withPrefix("pre").withSuffix(Name.of("post_" + i)).withoutFirst().withoutLast();
+        }
+
+        assertThat(name.length(), equalTo(100001L));
+        assertThat(name.toArray()[0], equalTo("core"));
+        assertThat(name.toArray()[100000], equalTo("post"));
+        assertThat(name.withoutLast().concat(Name.of("end")).withoutFirst().toArray().length, equalTo(100000));
+        assertThat(Name.of("a_b_c").concat(Name.of("d")).withoutFirst().withoutLast().concat(Name.of("e")).toCamelCase(),
+                equalTo("bCE"));
+    }
+
+    @Test public void
+    splitsAndUppercasesKnownAcronyms() {
+        AcronymDictionary acronyms = AcronymDictionary.of("xml", "HTTP", "HTTPS", "id", "Url");
+
+        assertThat(acronyms.size(), equalTo(5));
+        assertThat(acronyms.contains("XmL"), equalTo(true));
+        assertThat(acronyms.contains("xm"), equalTo(false));
+
+        assertThat(Name.of("XMLHTTPRequest", acronyms).toArray(), arrayContaining("XML", "HTTP", "Request"));
+        assertThat(Name.of("parseHTTPSURLRequest", acronyms).toArray(), arrayContaining("parse", "HTTPS", "URL", "Request"));
+        assertThat(Name.of("loadXMLFOOHTTPSId", acronyms).toArray(), arrayContaining("load", "XML", "FOO", "HTTPS", "Id"));
+        assertThat(Name.of("xml_http_request", acronyms).uppercasing(acronyms).toCamelCase(),
+                equalTo("XMLHTTPRequest"));
+        assertThat(NameConverter.toUnderscored().splittingOn(acronyms).convert("customerIDXMLHTTPRequest"),
+                equalTo("customer_id_xml_http_request"));
+        assertThat(Name.of("HTML5Parser", AcronymDictionary.of("html")).toArray(), arrayContaining("HTML5", "Parser"));
+        assertThat(Name.of("XML2JSONConverter", acronyms).toArray(), arrayContaining("XML2", "JSON", "Converter"));
+    }
+
+    @Test public void
+    converterUppercasingMatchesNameUppercasing() {
+        for (String source : new String[] { "XMLHTTPRequest", "xml_http_request", "HTML5Parser", "customerIdXml" }) {
+            assertThat(NameConverter.toUnderscored().uppercasing("xml", "html").convert(source),
+                    equalTo(Name.of(source).uppercasing("xml", "html").toUnderscored()));
+            assertThat(NameConverter.toCamelCase().uppercasing("xml", "html").convert(source),
+                    equalTo(Name.of(source).uppercasing("xml", "html").toCamelCase()));
+        }
+    }
+
 }
@@ -0,0 +1,76 @@
+package com.codepoetics.navn;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+
+public class NavnMetricsTest {
+
+    @After public void
+    uninstall() {
+        NavnMetrics.install(null);
+    }
+
+    @Test public void
+    countsDetectionsPartsAndTimings() {
+        NavnCounters counters = new NavnCounters();
+        NavnMetrics.install(counters);
+
+        Name.of("customer_id");
+        Name.of("customerOrderId");
+        Name.of("customer");
+        NameConverter.toUnderscored().convert("lineItem");
+        SourceFormat.CASE_SEPARATED.apply("fooBar");
+
+        assertThat(counters.detectionCount(SourceFormat.UNDERSCORE_SEPARATED), equalTo(1L));
+        assertThat(counters.detectionCount(SourceFormat.CASE_SEPARATED), equalTo(2L));
+        assertThat(counters.undetectedCount(), equalTo(1L));
+        assertThat(counters.caseSeparatedReadCount(), equalTo(3L));
+        assertThat(counters.partCountHistogram()[1], equalTo(1L));
+        assertThat(counters.partCountHistogram()[2], equalTo(2L));
+        assertThat(counters.partCountHistogram()[3], equalTo(1L));
+        assertThat(counters.formattingCount(), equalTo(1L));
+        assertThat(counters.conversionCount(), equalTo(1L));
+        assertThat(counters.conversionNanos(), greaterThan(0L));
+
+        NavnMetrics.install(NavnMetrics.NONE);
+        Name.of("orderId").toUnderscored();
+        assertThat(counters.detectionCount(SourceFormat.CASE_SEPARATED), equalTo(2L));
+    }
+
+    @Test public void
+    countsByteConversionsLikeStringConversions() {
+        NavnCounters counters = new NavnCounters();
+        NavnMetrics.install(counters);
+        NameConverter converter = NameConverter.toUnderscored();
+
+        converter.convert("lineItem".getBytes(StandardCharsets.UTF_8));
+        converter.convert("ÉtéMaison".getBytes(StandardCharsets.UTF_8));
+        converter.convert(ByteBuffer.wrap("orderId".getBytes(StandardCharsets.UTF_8)), ByteBuffer.allocate(16));
+
+        assertThat(counters.conversionCount(), equalTo(3L));
+    }
+
+    @Test public void
+    countsBatchAndBufferConversions() {
+        NavnCounters counters = new NavnCounters();
+        NavnMetrics.install(counters);
+        NameConverter converter = NameConverter.toUnderscored();
+
+        String[] sources = new String[BatchConversion.SEQUENTIAL_THRESHOLD * 2];
+        Arrays.fill(sources, "lineItem");
+        converter.convertAll(sources);
+        converter.convertAll(Arrays.asList("orderId", "customerName"));
+        converter.convert("orderLine", new StringBuilder());
+
+        assertThat(counters.conversionCount(), equalTo(sources.length + 3L));
+        assertThat(counters.conversionNanos(), greaterThan(0L));
+    }
+}
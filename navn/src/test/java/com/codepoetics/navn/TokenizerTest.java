@@ -0,0 +1,79 @@
+package com.codepoetics.navn;
+
+import org.junit.Test;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+
+public class TokenizerTest {
+
+    private static List<String> tokenize(SourceFormat format, String input, int chunkSize) {
+        List<String> parts = new ArrayList<>();
+        Tokenizer tokenizer = Tokenizer.of(format, (chars, offset, length) -> parts.add(new String(chars, offset, length)));
+        char[] chars = input.toCharArray();
+        for (int i = 0; i < chars.length; i += chunkSize) {
+            tokenizer.accept(chars, i, Math.min(chunkSize, chars.length - i));
+        }
+        tokenizer.finish();
+        return parts;
+    }
+
+    private static List<String> nonEmpty(String[] parts) {
+        return Arrays.stream(parts).filter(part -> !part.isEmpty()).collect(Collectors.toList());
+    }
+
+    @Test public void
+    emitsPartsAsBoundariesAreConfirmed() {
+        List<String> parts = new ArrayList<>();
+        Tokenizer tokenizer = Tokenizer.of(SourceFormat.CASE_SEPARATED,
+                (chars, offset, length) -> parts.add(new String(chars, offset, length)));
+
+        tokenizer.accept("parseXM");
+        assertThat(parts, contains("parse"));
+
+        tokenizer.accept(CharBuffer.wrap("LHttp"));
+        assertThat(parts, contains("parse", "XML"));
+
+        tokenizer.finish();
+        assertThat(parts, contains("parse", "XML", "Http"));
+    }
+
+    @Test public void
+    tokenizesLikeSourceFormatsWhateverTheChunkSize() {
+        String[][] inputs = {
+                { "WHITESPACE_SEPARATED", "  the quick\tbrown\r\n  fox  " },
+                { "UNDERSCORE_SEPARATED", "_FOO__BAR_baz_" },
+                { "HYPHEN_SEPARATED", "kebab-case--name-" },
+                { "CASE_SEPARATED", "parseXMLHttpRequest2Json" },
+                { "CASE_SEPARATED", "HTML5ParserÉtéMaison𐐀Deseret𐐨x" }
+        };
+
+        for (String[] input : inputs) {
+            SourceFormat format = SourceFormat.valueOf(input[0]);
+            for (int chunkSize = 1; chunkSize <= input[1].length(); chunkSize++) {
+                assertThat(input[1] + " / " + chunkSize,
+                        tokenize(format, input[1], chunkSize),
+                        equalTo(nonEmpty(format.apply(input[1]))));
+            }
+        }
+    }
+
+    @Test public void
+    canBeReusedAfterFinishing() {
+        List<String> parts = new ArrayList<>();
+        Tokenizer tokenizer = Tokenizer.of(SourceFormat.CASE_SEPARATED,
+                (chars, offset, length) -> parts.add(new String(chars, offset, length)));
+
+        tokenizer.accept("fooBAR").finish();
+        tokenizer.accept("Baz").finish();
+
+        assertThat(parts, contains("foo", "BAR", "Baz"));
+    }
+}
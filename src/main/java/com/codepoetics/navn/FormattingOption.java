@@ -1,6 +0,0 @@
-package com.codepoetics.navn;
-
-import java.util.function.BiFunction;
-
-public interface FormattingOption extends BiFunction<String, Long, String> {
-}